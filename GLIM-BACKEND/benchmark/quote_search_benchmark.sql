@@ -0,0 +1,79 @@
+-- 글귀 본문 검색 벤치마크 (LIKE '%keyword%' vs bigram tsvector GIN)
+-- V8 마이그레이션이 적용된 PostgreSQL 에서 실행한다.
+-- psql -h localhost -p 5431 -U geulgwi_user -d geulgwi -f benchmark/quote_search_benchmark.sql
+-- 운영 테이블을 건드리지 않도록 quote 와 같은 구조의 bench_quote 테이블을 만들어 측정 후 삭제한다.
+
+\timing on
+
+DROP TABLE IF EXISTS bench_quote;
+CREATE TABLE bench_quote (LIKE quote INCLUDING DEFAULTS INCLUDING GENERATED);
+-- quote_id 기본값(quote 시퀀스)을 그대로 쓰면 운영 시퀀스가 300만 증가하므로 전용 identity 로 바꾼다.
+ALTER TABLE bench_quote
+    ALTER COLUMN quote_id DROP DEFAULT,
+    ALTER COLUMN quote_id ADD GENERATED ALWAYS AS IDENTITY;
+
+-- 300만 건의 합성 글귀 (한국어 어절 사전에서 무작위로 12 어절씩 조합)
+WITH words AS (
+    SELECT ARRAY ['사랑', '그리움', '이별', '기억', '계절', '여행', '바람', '하루', '순간', '희망',
+                  '외로움', '위로', '약속', '시간', '마음', '생각', '관계', '성장', '변화', '선택',
+                  '행복', '용기', '눈물', '고요', '멈춤', '편지', '고백', '별빛', '새벽', '노을'] AS dict
+)
+INSERT INTO bench_quote (book_id, member_id, content, visibility, views, page, like_count)
+SELECT NULL,
+       NULL,
+       (SELECT string_agg(dict[1 + floor(random() * array_length(dict, 1))::int], ' ')
+        FROM generate_series(1, 12)
+        WHERE s.id IS NOT NULL),
+       CASE WHEN random() < 0.9 THEN 'PUBLIC' ELSE 'PRIVATE' END,
+       0,
+       0,
+       0
+FROM words, generate_series(1, 3000000) AS s(id);
+
+CREATE INDEX idx_bench_quote_content_bigrams ON bench_quote USING GIN (content_bigrams);
+ANALYZE bench_quote;
+
+-- 1) 기존 LIKE 경로 (findByContentContainingAndVisibility)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT quote_id
+FROM bench_quote
+WHERE content LIKE '%' || '새벽 노을' || '%'
+  AND visibility = 'PUBLIC'
+LIMIT 20;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*)
+FROM bench_quote
+WHERE content LIKE '%' || '새벽 노을' || '%'
+  AND visibility = 'PUBLIC';
+
+-- 2) bigram GIN 경로 (QuoteSearchRepository.searchPublicIdsByContent)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT quote_id
+FROM bench_quote q
+WHERE q.visibility = 'PUBLIC'
+  AND q.content_bigrams @@ geulgwi_bigram_query('새벽 노을')
+  AND q.content ILIKE '%' || '새벽 노을' || '%' ESCAPE '\'
+ORDER BY ts_rank(q.content_bigrams, geulgwi_bigram_query('새벽 노을')) DESC, q.quote_id DESC
+LIMIT 20;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*)
+FROM bench_quote q
+WHERE q.visibility = 'PUBLIC'
+  AND q.content_bigrams @@ geulgwi_bigram_query('새벽 노을')
+  AND q.content ILIKE '%' || '새벽 노을' || '%' ESCAPE '\';
+
+-- 3) 결과가 거의 없는 키워드 (LIKE 는 전체 스캔, GIN 은 posting list 교집합에서 바로 종료)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT quote_id FROM bench_quote WHERE content LIKE '%무지개%' AND visibility = 'PUBLIC' LIMIT 20;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT quote_id
+FROM bench_quote q
+WHERE q.visibility = 'PUBLIC'
+  AND q.content_bigrams @@ geulgwi_bigram_query('무지개')
+  AND q.content ILIKE '%무지개%'
+LIMIT 20;
+
+DROP TABLE bench_quote;
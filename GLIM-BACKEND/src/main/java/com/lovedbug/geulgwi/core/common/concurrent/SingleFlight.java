@@ -0,0 +1,69 @@
+package com.lovedbug.geulgwi.core.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executedCounter;
+    private final Counter coalescedCounter;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executedCounter = Counter.builder("geulgwi.singleflight.calls")
+            .tag("name", name)
+            .tag("result", "executed")
+            .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("geulgwi.singleflight.calls")
+            .tag("name", name)
+            .tag("result", "coalesced")
+            .register(meterRegistry);
+
+        Gauge.builder("geulgwi.singleflight.in-flight", inFlight, Map::size)
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        executedCounter.increment();
+
+        try {
+            V value = supplier.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
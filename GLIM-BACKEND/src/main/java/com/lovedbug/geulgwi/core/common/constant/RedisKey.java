@@ -7,8 +7,23 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum RedisKey {
 
-    POPULAR_QUOTES("popular:quotes"),
-    POPULAR_BOOKS("popular:books");
+    TRENDING_QUOTES("trending:quotes"),
+    QUOTE_DISPLAY("quote:display:"),
+    TRENDING_BOOKS("trending:books:all"),
+    TRENDING_BOOKS_BY_CATEGORY("trending:books:category:"),
+    TRENDING_BOOK_CATEGORIES("trending:books:categories"),
+    TRENDING_KEYWORDS("trending:keywords"),
+    LEGACY_KEYWORDS_REMOVED("migration:legacy-keywords-removed"),
+    QUOTE_FEED_VERSION("quote:feed:version"),
+    QUOTE_FEED_POOL("quote:feed:pool:"),
+    QUOTE_FEED_LOCK("quote:feed:lock"),
+    BOOK_SYNC_LOCK("book:sync:lock"),
+    CURATION_CHANGED_CHANNEL("curation:changed"),
+    CACHE_INVALIDATION_CHANNEL("cache:invalidation"),
+    MEMBER_STATUS_CHANNEL("member:status:changed"),
+    REVOKED_TOKEN("auth:revoked:"),
+    TOKEN_REVOKED_CHANNEL("auth:token:revoked"),
+    RATE_LIMIT("rate:limit:");
 
     private final String key;
 }
@@ -3,6 +3,7 @@ package com.lovedbug.geulgwi.core.common.exception;
 import com.lovedbug.geulgwi.core.common.exception.constant.CommonErrorCode;
 import com.lovedbug.geulgwi.core.domain.auth.exception.AuthException;
 import com.lovedbug.geulgwi.core.domain.member.exception.MemberException;
+import com.lovedbug.geulgwi.core.domain.quote.exception.UnsupportedSortException;
 import com.lovedbug.geulgwi.external.email.exception.EmailException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -41,7 +42,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler({
         MethodArgumentNotValidException.class,
         MethodArgumentTypeMismatchException.class,
-        MissingServletRequestPartException.class
+        MissingServletRequestPartException.class,
+        UnsupportedSortException.class
     })
     public ResponseEntity<GeulgwiErrorResponse> handleBadRequest(Exception e) {
 
@@ -0,0 +1,21 @@
+package com.lovedbug.geulgwi.core.common.http;
+
+import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import org.springframework.http.CacheControl;
+
+@RequiredArgsConstructor
+public enum CachePolicy {
+
+    MAIN_CURATION(CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic()),
+    POPULAR_KEYWORDS(CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic()),
+    BOOK_DETAIL(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic()),
+    QUOTE_DETAIL(CacheControl.noCache().cachePrivate()),
+    MEMBER_DETAIL(CacheControl.noCache().cachePrivate());
+
+    private final CacheControl cacheControl;
+
+    public CacheControl cacheControl() {
+        return cacheControl;
+    }
+}
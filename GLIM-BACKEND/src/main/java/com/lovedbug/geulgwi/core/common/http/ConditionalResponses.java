@@ -0,0 +1,24 @@
+package com.lovedbug.geulgwi.core.common.http;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    public static <T> ResponseEntity<T> of(String ifNoneMatch, Versioned<T> versioned, CachePolicy policy) {
+        if (ETags.matches(ifNoneMatch, versioned.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(versioned.etag())
+                .cacheControl(policy.cacheControl())
+                .build();
+        }
+
+        return ResponseEntity.ok()
+            .eTag(versioned.etag())
+            .cacheControl(policy.cacheControl())
+            .body(versioned.body());
+    }
+}
@@ -0,0 +1,47 @@
+package com.lovedbug.geulgwi.core.common.http;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+public final class ETags {
+
+    private static final int ETAG_BYTES = 16;
+
+    private ETags() {
+    }
+
+    public static String of(byte[] content) {
+        return "\"" + HexFormat.of().formatHex(sha256(content), 0, ETAG_BYTES) + "\"";
+    }
+
+    public static String of(Object... versionParts) {
+        String version = Arrays.stream(versionParts)
+            .map(String::valueOf)
+            .collect(Collectors.joining("|"));
+
+        return of(version.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
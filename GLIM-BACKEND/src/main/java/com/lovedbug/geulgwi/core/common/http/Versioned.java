@@ -0,0 +1,11 @@
+package com.lovedbug.geulgwi.core.common.http;
+
+public record Versioned<T>(
+    T body,
+    String etag
+) {
+
+    public static <T> Versioned<T> of(T body, Object... versionParts) {
+        return new Versioned<>(body, ETags.of(versionParts));
+    }
+}
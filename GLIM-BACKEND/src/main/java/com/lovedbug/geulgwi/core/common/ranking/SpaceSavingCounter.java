@@ -0,0 +1,99 @@
+package com.lovedbug.geulgwi.core.common.ranking;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class SpaceSavingCounter {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final TreeMap<Long, LinkedHashSet<String>> itemsByCount = new TreeMap<>();
+
+    public SpaceSavingCounter(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void add(String item, long weight) {
+        Counter counter = counters.get(item);
+
+        if (counter != null) {
+            moveTo(item, counter.count, counter.count + weight);
+            counter.count += weight;
+            return;
+        }
+
+        long error = 0;
+
+        if (counters.size() >= capacity) {
+            Map.Entry<Long, LinkedHashSet<String>> smallest = itemsByCount.firstEntry();
+            Iterator<String> iterator = smallest.getValue().iterator();
+            String evicted = iterator.next();
+
+            iterator.remove();
+            if (smallest.getValue().isEmpty()) {
+                itemsByCount.remove(smallest.getKey());
+            }
+
+            counters.remove(evicted);
+            error = smallest.getKey();
+        }
+
+        counters.put(item, new Counter(error + weight, error));
+        itemsByCount.computeIfAbsent(error + weight, count -> new LinkedHashSet<>()).add(item);
+    }
+
+    public synchronized Map<String, Long> drainTop(int limit) {
+        Map<String, Long> top = new LinkedHashMap<>();
+
+        for (LinkedHashSet<String> items : itemsByCount.descendingMap().values()) {
+            for (String item : items) {
+                if (top.size() == limit) {
+                    break;
+                }
+
+                Counter counter = counters.get(item);
+                long guaranteed = counter.count - counter.error;
+
+                if (guaranteed > 0) {
+                    top.put(item, guaranteed);
+                }
+            }
+        }
+
+        counters.clear();
+        itemsByCount.clear();
+
+        return top;
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+
+    private void moveTo(String item, long from, long to) {
+        LinkedHashSet<String> items = itemsByCount.get(from);
+        items.remove(item);
+
+        if (items.isEmpty()) {
+            itemsByCount.remove(from);
+        }
+
+        itemsByCount.computeIfAbsent(to, count -> new LinkedHashSet<>()).add(item);
+    }
+
+    private static final class Counter {
+
+        private long count;
+        private final long error;
+
+        private Counter(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
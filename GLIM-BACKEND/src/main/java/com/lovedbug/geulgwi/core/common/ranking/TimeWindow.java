@@ -0,0 +1,20 @@
+package com.lovedbug.geulgwi.core.common.ranking;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TimeWindow {
+
+    DAY("day", 24, 6.0),
+    WEEK("week", 24 * 7, 48.0);
+
+    private final String key;
+    private final int bucketCount;
+    private final double halfLifeHours;
+
+    public double weightOf(int ageHours) {
+        return Math.pow(0.5, ageHours / halfLifeHours);
+    }
+}
@@ -0,0 +1,221 @@
+package com.lovedbug.geulgwi.core.common.ranking;
+
+import lombok.RequiredArgsConstructor;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TrendingRankingStore {
+
+    private static final long BUCKET_MAX_SIZE = 5_000;
+    private static final long LIVE_BUCKET_MAX_SIZE = BUCKET_MAX_SIZE * 2;
+    private static final int SCRIPT_BATCH_SIZE = 500;
+    private static final long WINDOW_MAX_SIZE = 1_000;
+    private static final Duration WINDOW_TTL = Duration.ofMinutes(5);
+    private static final Duration BUCKET_TTL = Duration.ofHours(TimeWindow.WEEK.getBucketCount() + 1L);
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/trending_increment.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void incrementAll(String prefix, Map<String, Double> scores) {
+        incrementAll(Map.of(prefix, scores));
+    }
+
+    public void incrementAll(Map<String, Map<String, Double>> scoresByPrefix) {
+        long currentHour = currentHour();
+        List<byte[][]> scriptCalls = new ArrayList<>();
+
+        scoresByPrefix.forEach((prefix, scores) -> {
+            List<Map.Entry<String, Double>> entries = new ArrayList<>(scores.entrySet());
+
+            for (int from = 0; from < entries.size(); from += SCRIPT_BATCH_SIZE) {
+                List<Map.Entry<String, Double>> chunk =
+                    entries.subList(from, Math.min(from + SCRIPT_BATCH_SIZE, entries.size()));
+
+                scriptCalls.add(toKeysAndArgs(bucketKey(prefix, currentHour), chunk));
+            }
+        });
+
+        if (scriptCalls.isEmpty()) {
+            return;
+        }
+
+        try {
+            evalShaPipelined(scriptCalls);
+        } catch (DataAccessException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                .scriptLoad(INCREMENT_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            evalShaPipelined(scriptCalls);
+        }
+    }
+
+    public List<String> top(String prefix, TimeWindow window, int limit) {
+        String windowKey = ensureWindow(prefix, window);
+
+        return new ArrayList<>(Optional.ofNullable(redisTemplate.opsForZSet().reverseRange(windowKey, 0, limit - 1))
+            .orElse(Collections.emptySet()));
+    }
+
+    public Map<String, Double> topWithScores(String prefix, TimeWindow window, int limit) {
+        String windowKey = ensureWindow(prefix, window);
+
+        Set<ZSetOperations.TypedTuple<String>> members = Optional.ofNullable(
+            redisTemplate.opsForZSet().reverseRangeWithScores(windowKey, 0, limit - 1)).orElse(Collections.emptySet());
+
+        Map<String, Double> scores = new LinkedHashMap<>(members.size());
+
+        for (ZSetOperations.TypedTuple<String> member : members) {
+            if (member.getValue() != null && member.getScore() != null) {
+                scores.put(member.getValue(), member.getScore());
+            }
+        }
+
+        return scores;
+    }
+
+    public void rebuildWindow(String prefix, TimeWindow window) {
+        long currentHour = currentHour();
+        List<String> bucketKeys = new ArrayList<>(window.getBucketCount());
+        double[] weights = new double[window.getBucketCount()];
+
+        for (int age = 0; age < window.getBucketCount(); age++) {
+            bucketKeys.add(bucketKey(prefix, currentHour - age));
+            weights[age] = window.weightOf(age);
+        }
+
+        redisTemplate.opsForZSet().removeRange(bucketKey(prefix, currentHour - 1), 0, -(BUCKET_MAX_SIZE + 1));
+
+        String windowKey = windowKey(prefix, window);
+        String stagingKey = windowKey + ":staging:" + UUID.randomUUID();
+
+        redisTemplate.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()),
+            stagingKey, Aggregate.SUM, Weights.of(weights));
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(stagingKey))) {
+            redisTemplate.delete(windowKey);
+            return;
+        }
+
+        redisTemplate.expire(stagingKey, WINDOW_TTL);
+        redisTemplate.opsForZSet().removeRange(stagingKey, 0, -(WINDOW_MAX_SIZE + 1));
+        redisTemplate.rename(stagingKey, windowKey);
+        redisTemplate.expire(windowKey, WINDOW_TTL);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void remove(String prefix, Collection<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+
+        Object[] values = members.toArray();
+        long currentHour = currentHour();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ZSetOperations<String, String> zSetOps = (ZSetOperations<String, String>) operations.opsForZSet();
+
+                for (TimeWindow window : TimeWindow.values()) {
+                    zSetOps.remove(windowKey(prefix, window), values);
+                }
+
+                for (int age = 0; age < TimeWindow.WEEK.getBucketCount(); age++) {
+                    zSetOps.remove(bucketKey(prefix, currentHour - age), values);
+                }
+
+                return null;
+            }
+        });
+    }
+
+    private String ensureWindow(String prefix, TimeWindow window) {
+        String windowKey = windowKey(prefix, window);
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(windowKey))) {
+            rebuildWindow(prefix, window);
+        }
+
+        return windowKey;
+    }
+
+    private void evalShaPipelined(List<byte[][]> scriptCalls) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[][] keysAndArgs : scriptCalls) {
+                connection.scriptingCommands().evalSha(INCREMENT_SCRIPT.getSha1(), ReturnType.INTEGER, 1, keysAndArgs);
+            }
+
+            return null;
+        });
+    }
+
+    private byte[][] toKeysAndArgs(String bucketKey, List<Map.Entry<String, Double>> entries) {
+        byte[][] keysAndArgs = new byte[3 + entries.size() * 2][];
+        keysAndArgs[0] = bytes(bucketKey);
+        keysAndArgs[1] = bytes(String.valueOf(BUCKET_TTL.toSeconds()));
+        keysAndArgs[2] = bytes(String.valueOf(LIVE_BUCKET_MAX_SIZE));
+
+        int index = 3;
+        for (Map.Entry<String, Double> entry : entries) {
+            keysAndArgs[index++] = bytes(entry.getKey());
+            keysAndArgs[index++] = bytes(String.valueOf(entry.getValue()));
+        }
+
+        return keysAndArgs;
+    }
+
+    private boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long currentHour() {
+        return Instant.now().getEpochSecond() / 3600;
+    }
+
+    private String bucketKey(String prefix, long hour) {
+        return prefix + ":h:" + hour;
+    }
+
+    private String windowKey(String prefix, TimeWindow window) {
+        return prefix + ":w:" + window.getKey();
+    }
+}
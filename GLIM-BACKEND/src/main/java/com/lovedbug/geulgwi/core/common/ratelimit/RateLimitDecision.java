@@ -0,0 +1,17 @@
+package com.lovedbug.geulgwi.core.common.ratelimit;
+
+public record RateLimitDecision(
+    boolean allowed,
+    long retryAfterMillis
+) {
+
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    public static RateLimitDecision allow() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision reject(long retryAfterMillis) {
+        return new RateLimitDecision(false, Math.max(1, retryAfterMillis));
+    }
+}
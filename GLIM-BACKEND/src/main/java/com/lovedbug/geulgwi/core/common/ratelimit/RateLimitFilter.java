@@ -0,0 +1,94 @@
+package com.lovedbug.geulgwi.core.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovedbug.geulgwi.core.common.exception.GeulgwiErrorResponse;
+import com.lovedbug.geulgwi.core.common.exception.constant.CommonErrorCode;
+import com.lovedbug.geulgwi.core.security.JwtAuthenticationFilter;
+import com.lovedbug.geulgwi.core.security.dto.AuthenticatedUser;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain)
+        throws ServletException, IOException {
+
+        RateLimitProperties.Rule rule = properties.isEnabled() ? findRule(request) : null;
+
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitDecision decision = rateLimiter.tryAcquire(rule, resolveSubject(request, rule));
+
+        if (!decision.allowed()) {
+            sendTooManyRequests(response, decision.retryAfterMillis());
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitProperties.Rule findRule(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (rule.getMethod() != null && !rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+
+            for (String path : rule.getPaths()) {
+                if (pathMatcher.match(path, uri)) {
+                    return rule;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private String resolveSubject(HttpServletRequest request, RateLimitProperties.Rule rule) {
+        if (rule.getKey() == RateLimitKey.MEMBER_OR_IP
+            && request.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_KEY) instanceof AuthenticatedUser user) {
+            return "member:" + user.getMemberId();
+        }
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void sendTooManyRequests(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        CommonErrorCode errorCode = CommonErrorCode.TOO_MANY_REQUESTS;
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        objectMapper.writeValue(response.getWriter(), GeulgwiErrorResponse.builder()
+            .status(errorCode.getHttpStatus().value())
+            .code(errorCode.name())
+            .message(errorCode.getMessage())
+            .build());
+    }
+}
@@ -0,0 +1,7 @@
+package com.lovedbug.geulgwi.core.common.ratelimit;
+
+public enum RateLimitKey {
+
+    IP,
+    MEMBER_OR_IP
+}
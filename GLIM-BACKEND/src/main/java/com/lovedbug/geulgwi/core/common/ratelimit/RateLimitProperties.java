@@ -0,0 +1,36 @@
+package com.lovedbug.geulgwi.core.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "geulgwi.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Duration localIdleTtl = Duration.ofMinutes(10);
+    private long localMaxSize = 100_000;
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        private String name;
+        private String method;
+        private List<String> paths = new ArrayList<>();
+        private long capacity = 10;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+        private int lease = 1;
+        private RateLimitKey key = RateLimitKey.MEMBER_OR_IP;
+
+        public double refillPerMillis() {
+            return (double) capacity / refillPeriod.toMillis();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.lovedbug.geulgwi.core.common.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final int STRIPE_COUNT = 64;
+    private static final String METRIC_NAME = "geulgwi.ratelimit.requests";
+
+    private final RedisTokenBucket redisTokenBucket;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, LocalBucket> buckets;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+
+    public RateLimiter(RedisTokenBucket redisTokenBucket, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redisTokenBucket = redisTokenBucket;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.getLocalMaxSize())
+            .expireAfterAccess(properties.getLocalIdleTtl())
+            .build();
+
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public RateLimitDecision tryAcquire(RateLimitProperties.Rule rule, String subject) {
+        String bucketKey = rule.getName() + ":" + subject;
+        LocalBucket bucket = buckets.get(bucketKey, key -> new LocalBucket());
+        ReentrantLock lock = stripes[(bucketKey.hashCode() & Integer.MAX_VALUE) % STRIPE_COUNT];
+
+        RateLimitDecision local = withLock(lock, () -> acquireLocally(bucket, System.currentTimeMillis()));
+
+        if (local != null) {
+            record(rule, local.allowed() ? "allowed" : "rejected");
+            return local;
+        }
+
+        RedisTokenBucket.Lease lease;
+
+        try {
+            lease = redisTokenBucket.lease(bucketKey, rule);
+        } catch (DataAccessException | IllegalStateException e) {
+            log.warn("요청 제한 버킷 조회 실패. 요청을 허용합니다. rule={}", rule.getName(), e);
+            record(rule, "degraded");
+            return RateLimitDecision.allow();
+        }
+
+        RateLimitDecision decision = withLock(lock, () -> applyLease(bucket, rule, lease, System.currentTimeMillis()));
+        record(rule, decision.allowed() ? "allowed" : "rejected");
+        return decision;
+    }
+
+    private RateLimitDecision acquireLocally(LocalBucket bucket, long now) {
+        if (bucket.tokens > 0 && bucket.leaseExpiresAt > now) {
+            bucket.tokens--;
+            return RateLimitDecision.allow();
+        }
+
+        if (bucket.blockedUntil > now) {
+            return RateLimitDecision.reject(bucket.blockedUntil - now);
+        }
+
+        return null;
+    }
+
+    private RateLimitDecision applyLease(LocalBucket bucket, RateLimitProperties.Rule rule,
+                                         RedisTokenBucket.Lease lease, long now) {
+        if (lease.granted() > 0) {
+            bucket.tokens = (bucket.leaseExpiresAt > now ? bucket.tokens : 0) + lease.granted() - 1;
+            bucket.leaseExpiresAt = now + rule.getRefillPeriod().toMillis();
+            return RateLimitDecision.allow();
+        }
+
+        bucket.blockedUntil = Math.max(bucket.blockedUntil, now + lease.retryAfterMillis());
+        return RateLimitDecision.reject(lease.retryAfterMillis());
+    }
+
+    private RateLimitDecision withLock(ReentrantLock lock, Supplier<RateLimitDecision> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(RateLimitProperties.Rule rule, String outcome) {
+        meterRegistry.counter(METRIC_NAME, "rule", rule.getName(), "outcome", outcome).increment();
+    }
+
+    private static final class LocalBucket {
+
+        private int tokens;
+        private long leaseExpiresAt;
+        private long blockedUntil;
+    }
+}
@@ -0,0 +1,40 @@
+package com.lovedbug.geulgwi.core.common.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import java.util.List;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+
+@Component
+@RequiredArgsConstructor
+public class RedisTokenBucket {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LEASE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/rate_limit_lease.lua"), List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Lease lease(String bucketKey, RateLimitProperties.Rule rule) {
+        List<?> result = stringRedisTemplate.execute(LEASE_SCRIPT, List.of(RedisKey.RATE_LIMIT.getKey() + bucketKey),
+            String.valueOf(rule.getCapacity()), String.valueOf(rule.refillPerMillis()),
+            String.valueOf(Math.min(rule.getLease(), rule.getCapacity())),
+            String.valueOf(rule.getRefillPeriod().toMillis() * 2));
+
+        if (result == null || result.size() < 2
+            || !(result.get(0) instanceof Number) || !(result.get(1) instanceof Number)) {
+            throw new IllegalStateException("토큰 버킷 스크립트 응답이 올바르지 않습니다.");
+        }
+
+        return new Lease(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue());
+    }
+
+    public record Lease(
+        int granted,
+        long retryAfterMillis
+    ) {
+    }
+}
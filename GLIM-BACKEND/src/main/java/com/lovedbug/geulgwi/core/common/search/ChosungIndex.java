@@ -0,0 +1,216 @@
+package com.lovedbug.geulgwi.core.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class ChosungIndex<T> {
+
+    private static final int INITIAL_CAPACITY = 1_024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> docById = new HashMap<>();
+    private final Map<Integer, Postings> postingsByGram = new HashMap<>();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] chosungs = new String[INITIAL_CAPACITY];
+    private Object[] payloads = new Object[INITIAL_CAPACITY];
+    private int docCount;
+
+    public void put(long id, String text, T payload) {
+        String chosung = HangulJamo.toChosung(text);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+
+            if (chosung.isEmpty()) {
+                return;
+            }
+
+            compactIfNeeded();
+            ensureCapacity();
+
+            int doc = docCount++;
+            ids[doc] = id;
+            chosungs[doc] = chosung;
+            payloads[doc] = payload;
+            docById.put(id, doc);
+
+            for (int gram : gramsOf(chosung, true)) {
+                postingsByGram.computeIfAbsent(gram, key -> new Postings()).add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<T> search(String query, int limit) {
+        String chosungQuery = HangulJamo.toChosung(query);
+        List<T> results = new ArrayList<>();
+
+        if (chosungQuery.isEmpty() || limit <= 0) {
+            return results;
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = postingsOf(chosungQuery);
+
+            if (lists == null) {
+                return results;
+            }
+
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            Postings smallest = lists[0];
+
+            for (int i = smallest.size - 1; i >= 0 && results.size() < limit; i--) {
+                int doc = smallest.values[i];
+
+                if (chosungs[doc] != null && containsInAll(lists, doc) && chosungs[doc].contains(chosungQuery)) {
+                    results.add((T) payloads[doc]);
+                }
+            }
+
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Postings[] postingsOf(String chosungQuery) {
+        int[] grams = gramsOf(chosungQuery, chosungQuery.length() == 1);
+        Postings[] lists = new Postings[grams.length];
+
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postingsByGram.get(grams[i]);
+
+            if (lists[i] == null) {
+                return null;
+            }
+        }
+
+        return lists;
+    }
+
+    private boolean containsInAll(Postings[] lists, int doc) {
+        for (int i = 1; i < lists.length; i++) {
+            if (Arrays.binarySearch(lists[i].values, 0, lists[i].size, doc) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int[] gramsOf(String chosung, boolean includeUnigrams) {
+        int bigramCount = Math.max(chosung.length() - 1, 0);
+        int unigramCount = includeUnigrams ? chosung.length() : 0;
+        int[] grams = new int[bigramCount + unigramCount];
+        int index = 0;
+
+        for (int i = 0; i < bigramCount; i++) {
+            grams[index++] = (chosung.charAt(i) << 16) | chosung.charAt(i + 1);
+        }
+
+        for (int i = 0; i < unigramCount; i++) {
+            grams[index++] = chosung.charAt(i) << 16;
+        }
+
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private void removeLocked(long id) {
+        Integer doc = docById.remove(id);
+
+        if (doc != null) {
+            chosungs[doc] = null;
+            payloads[doc] = null;
+        }
+    }
+
+    private void ensureCapacity() {
+        if (docCount < ids.length) {
+            return;
+        }
+
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        chosungs = Arrays.copyOf(chosungs, capacity);
+        payloads = Arrays.copyOf(payloads, capacity);
+    }
+
+    private void compactIfNeeded() {
+        int tombstones = docCount - docById.size();
+
+        if (tombstones < INITIAL_CAPACITY || tombstones * 2 < docCount) {
+            return;
+        }
+
+        long[] liveIds = new long[docById.size()];
+        String[] liveChosungs = new String[docById.size()];
+        Object[] livePayloads = new Object[docById.size()];
+        int live = 0;
+
+        for (int doc = 0; doc < docCount; doc++) {
+            if (chosungs[doc] != null) {
+                liveIds[live] = ids[doc];
+                liveChosungs[live] = chosungs[doc];
+                livePayloads[live] = payloads[doc];
+                live++;
+            }
+        }
+
+        docById.clear();
+        postingsByGram.clear();
+        ids = Arrays.copyOf(liveIds, Math.max(live * 2, INITIAL_CAPACITY));
+        chosungs = Arrays.copyOf(liveChosungs, ids.length);
+        payloads = Arrays.copyOf(livePayloads, ids.length);
+        docCount = live;
+
+        for (int doc = 0; doc < live; doc++) {
+            docById.put(ids[doc], doc);
+
+            for (int gram : gramsOf(chosungs[doc], true)) {
+                postingsByGram.computeIfAbsent(gram, key -> new Postings()).add(doc);
+            }
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+
+            values[size++] = doc;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.lovedbug.geulgwi.core.common.search;
+
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JONGSUNG_COUNT = 28;
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * JONGSUNG_COUNT;
+
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulJamo() {
+    }
+
+    public static String toChosung(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder chosung = new StringBuilder(text.length());
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (isSyllable(c)) {
+                chosung.append(CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG]);
+            } else if (isConsonantJamo(c) || Character.isLetterOrDigit(c)) {
+                chosung.append(Character.toLowerCase(c));
+            }
+        }
+
+        return chosung.toString();
+    }
+
+    public static boolean isComposing(char typed, char target) {
+        if (typed == target) {
+            return true;
+        }
+
+        if (!isSyllable(target)) {
+            return false;
+        }
+
+        if (isSyllable(typed)) {
+            return (typed - SYLLABLE_BEGIN) % JONGSUNG_COUNT == 0 && target > typed && target - typed < JONGSUNG_COUNT;
+        }
+
+        return chosungIndexOf(typed) == (target - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static int chosungIndexOf(char c) {
+        for (int i = 0; i < CHOSUNG.length; i++) {
+            if (CHOSUNG[i] == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public static boolean isConsonantJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+}
@@ -0,0 +1,23 @@
+package com.lovedbug.geulgwi.core.common.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class KeywordNormalizer {
+
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private KeywordNormalizer() {
+    }
+
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+
+        String composed = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+
+        return WHITESPACES.matcher(composed.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,234 @@
+package com.lovedbug.geulgwi.core.common.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class PrefixTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Completion[] NO_COMPLETIONS = new Completion[0];
+    private static final Comparator<Completion> BY_WEIGHT_DESC =
+        Comparator.comparingDouble(Completion::weight).reversed().thenComparing(Completion::text);
+
+    private final Node root;
+    private final int topK;
+    private final int size;
+
+    private PrefixTrie(Node root, int topK, int size) {
+        this.root = root;
+        this.topK = topK;
+        this.size = size;
+    }
+
+    public static PrefixTrie build(Map<String, Double> weightsByText, int topK) {
+        Map<String, Completion> completionsByKey = new HashMap<>();
+
+        weightsByText.forEach((text, weight) -> {
+            String key = KeywordNormalizer.normalize(text);
+
+            if (key.isEmpty()) {
+                return;
+            }
+
+            completionsByKey.merge(key, new Completion(text.trim(), weight),
+                (a, b) -> new Completion(a.weight() >= b.weight() ? a.text() : b.text(), a.weight() + b.weight()));
+        });
+
+        Node root = new Node("");
+        completionsByKey.forEach((key, completion) -> insert(root, key, completion));
+        collectTop(root, topK);
+
+        return new PrefixTrie(root, topK, completionsByKey.size());
+    }
+
+    public List<String> complete(String prefix, int limit) {
+        String key = KeywordNormalizer.normalize(prefix);
+
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Node> matches = new ArrayList<>();
+        collectMatches(root, key, 0, matches);
+
+        int maxSize = Math.min(limit, topK);
+
+        if (matches.size() == 1) {
+            return Arrays.stream(matches.get(0).top)
+                .limit(maxSize)
+                .map(Completion::text)
+                .toList();
+        }
+
+        List<Completion> candidates = new ArrayList<>();
+        matches.forEach(node -> candidates.addAll(Arrays.asList(node.top)));
+        candidates.sort(BY_WEIGHT_DESC);
+
+        Set<String> completions = new LinkedHashSet<>();
+
+        for (Completion candidate : candidates) {
+            if (completions.size() == maxSize) {
+                break;
+            }
+            completions.add(candidate.text());
+        }
+
+        return new ArrayList<>(completions);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static void insert(Node root, String key, Completion completion) {
+        Node node = root;
+        int offset = 0;
+
+        while (offset < key.length()) {
+            int index = node.childIndex(key.charAt(offset));
+
+            if (index < 0) {
+                Node leaf = new Node(key.substring(offset));
+                leaf.terminal = completion;
+                node.addChild(-index - 1, leaf);
+                return;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, offset);
+
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children = new Node[] {child};
+                node.children[index] = split;
+                child = split;
+            }
+
+            node = child;
+            offset += common;
+        }
+
+        node.terminal = completion;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+
+        while (length < label.length() && offset + length < key.length()
+            && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+
+        return length;
+    }
+
+    private static void collectTop(Node node, int topK) {
+        List<Completion> candidates = new ArrayList<>();
+
+        if (node.terminal != null) {
+            candidates.add(node.terminal);
+        }
+
+        for (Node child : node.children) {
+            collectTop(child, topK);
+            candidates.addAll(Arrays.asList(child.top));
+        }
+
+        candidates.sort(BY_WEIGHT_DESC);
+        node.top = candidates.subList(0, Math.min(topK, candidates.size())).toArray(NO_COMPLETIONS);
+    }
+
+    private static void collectMatches(Node node, String key, int offset, List<Node> matches) {
+        boolean lastChar = offset == key.length() - 1;
+
+        if (!lastChar) {
+            int index = node.childIndex(key.charAt(offset));
+
+            if (index >= 0) {
+                followEdge(node.children[index], key, offset, matches);
+            }
+            return;
+        }
+
+        for (Node child : node.children) {
+            if (HangulJamo.isComposing(key.charAt(offset), child.label.charAt(0))) {
+                matches.add(child);
+            }
+        }
+    }
+
+    private static void followEdge(Node child, String key, int offset, List<Node> matches) {
+        String label = child.label;
+        int matched = 0;
+
+        while (matched < label.length() && offset + matched < key.length()) {
+            char typed = key.charAt(offset + matched);
+            boolean lastChar = offset + matched == key.length() - 1;
+
+            if (!(lastChar ? HangulJamo.isComposing(typed, label.charAt(matched)) : typed == label.charAt(matched))) {
+                return;
+            }
+            matched++;
+        }
+
+        if (offset + matched == key.length()) {
+            matches.add(child);
+            return;
+        }
+
+        collectMatches(child, key, offset + matched, matches);
+    }
+
+    public record Completion(
+        String text,
+        double weight
+    ) {
+    }
+
+    private static final class Node {
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private Completion terminal;
+        private Completion[] top = NO_COMPLETIONS;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int childIndex(char c) {
+            int low = 0;
+            int high = children.length - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -(low + 1);
+        }
+
+        private void addChild(int index, Node child) {
+            Node[] expanded = new Node[children.length + 1];
+            System.arraycopy(children, 0, expanded, 0, index);
+            expanded[index] = child;
+            System.arraycopy(children, index, expanded, index + 1, children.length - index);
+            children = expanded;
+        }
+    }
+}
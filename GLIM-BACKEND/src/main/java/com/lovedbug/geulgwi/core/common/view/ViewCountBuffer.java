@@ -0,0 +1,49 @@
+package com.lovedbug.geulgwi.core.common.view;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ViewCountBuffer {
+
+    private final Map<ViewTarget, ConcurrentHashMap<Long, Long>> buffers = new EnumMap<>(ViewTarget.class);
+
+    public ViewCountBuffer() {
+        for (ViewTarget target : ViewTarget.values()) {
+            buffers.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void increase(ViewTarget target, Long id) {
+        buffers.get(target).merge(id, 1L, Long::sum);
+    }
+
+    public int size(ViewTarget target) {
+        return buffers.get(target).size();
+    }
+
+    public Map<Long, Long> drain(ViewTarget target) {
+        ConcurrentHashMap<Long, Long> buffer = buffers.get(target);
+        Map<Long, Long> deltas = new HashMap<>();
+
+        // 키 단위 remove 는 merge 와 원자적으로 직렬화되므로, 제거 이후의 증가분은 새 항목으로 다음 주기에 반영된다
+        for (Long id : buffer.keySet()) {
+            Long delta = buffer.remove(id);
+
+            if (delta != null && delta > 0) {
+                deltas.put(id, delta);
+            }
+        }
+
+        return deltas;
+    }
+
+    public void restore(ViewTarget target, Map<Long, Long> deltas) {
+        ConcurrentHashMap<Long, Long> buffer = buffers.get(target);
+
+        deltas.forEach((id, delta) -> buffer.merge(id, delta, Long::sum));
+    }
+}
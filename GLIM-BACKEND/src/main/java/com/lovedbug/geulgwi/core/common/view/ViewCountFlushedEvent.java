@@ -0,0 +1,9 @@
+package com.lovedbug.geulgwi.core.common.view;
+
+import java.util.Map;
+
+public record ViewCountFlushedEvent(
+    ViewTarget target,
+    Map<Long, Long> deltas
+) {
+}
@@ -0,0 +1,83 @@
+package com.lovedbug.geulgwi.core.common.view;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class ViewCountFlusher {
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<ViewTarget, Timer> flushTimers = new EnumMap<>(ViewTarget.class);
+
+    public ViewCountFlusher(ViewCountBuffer viewCountBuffer, JdbcTemplate jdbcTemplate,
+                            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.viewCountBuffer = viewCountBuffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+
+        for (ViewTarget target : ViewTarget.values()) {
+            String tag = target.name().toLowerCase();
+
+            Gauge.builder("geulgwi.view.buffer.size", viewCountBuffer, buffer -> buffer.size(target))
+                .tag("target", tag)
+                .register(meterRegistry);
+
+            flushTimers.put(target, Timer.builder("geulgwi.view.flush")
+                .tag("target", tag)
+                .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-millis:5000}")
+    public void flush() {
+        for (ViewTarget target : ViewTarget.values()) {
+            flush(target);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private synchronized void flush(ViewTarget target) {
+        Map<Long, Long> deltas = viewCountBuffer.drain(target);
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> batchArgs.add(new Object[]{entry.getValue(), entry.getKey()}));
+
+        try {
+            flushTimers.get(target).record(() -> jdbcTemplate.batchUpdate(target.getIncrementSql(), batchArgs));
+        } catch (RuntimeException e) {
+            log.error("조회수 반영 실패, 다음 주기에 재시도합니다. target={}, size={}", target, deltas.size(), e);
+            viewCountBuffer.restore(target, deltas);
+            return;
+        }
+
+        try {
+            eventPublisher.publishEvent(new ViewCountFlushedEvent(target, deltas));
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영 후속 처리 실패. target={}, size={}", target, deltas.size(), e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.lovedbug.geulgwi.core.common.view;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ViewTarget {
+
+    QUOTE("UPDATE quote SET views = COALESCE(views, 0) + ? WHERE quote_id = ?"),
+    BOOK("UPDATE book SET views = COALESCE(views, 0) + ? WHERE book_id = ?");
+
+    private final String incrementSql;
+}
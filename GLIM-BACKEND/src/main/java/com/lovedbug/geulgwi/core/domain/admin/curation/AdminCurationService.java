@@ -11,6 +11,7 @@ import com.lovedbug.geulgwi.core.domain.curation.dto.response.CurationItemRespon
 import com.lovedbug.geulgwi.core.domain.curation.entity.CurationItem;
 import com.lovedbug.geulgwi.core.domain.curation.entity.CurationItemBook;
 import com.lovedbug.geulgwi.core.domain.curation.entity.CurationItemQuote;
+import com.lovedbug.geulgwi.core.domain.curation.event.CurationChangedEvent;
 import com.lovedbug.geulgwi.core.domain.curation.mapper.CurationMapper;
 import com.lovedbug.geulgwi.core.domain.curation.repository.CurationItemBookRepository;
 import com.lovedbug.geulgwi.core.domain.curation.repository.CurationItemQuoteRepository;
@@ -18,6 +19,7 @@ import com.lovedbug.geulgwi.core.domain.curation.repository.CurationItemReposito
 import com.lovedbug.geulgwi.core.domain.curation.repository.MainCurationRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -33,6 +35,7 @@ public class AdminCurationService {
     private final CurationItemRepository curationItemRepository;
     private final CurationItemBookRepository curationItemBookRepository;
     private final CurationItemQuoteRepository curationItemQuoteRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<CurationItemResponse> getMainCurationByAdmin() {
 
@@ -65,6 +68,8 @@ public class AdminCurationService {
             case QUOTE -> handleQuoteItems(item, createCurationRequest.getQuoteIds());
         }
 
+        eventPublisher.publishEvent(new CurationChangedEvent(MAIN_CURATION_ID));
+
         return CreateCurationResponse.builder()
                 .mainCurationId(MAIN_CURATION_ID)
                 .build();
@@ -88,16 +93,20 @@ public class AdminCurationService {
             case BOOK -> handleBookItems(curationItem, updateCurationRequest.getBookIds());
             case QUOTE -> handleQuoteItems(curationItem, updateCurationRequest.getQuoteIds());
         }
+
+        eventPublisher.publishEvent(new CurationChangedEvent(curationItem.getMainCurationId()));
     }
 
     @Transactional
     public void deleteCurationItem(Long itemId) {
-        if (!curationItemRepository.existsById(itemId)) {
-            throw new CurationNotFoundException("아이템이 없습니다: " + itemId);
-        }
+        CurationItem curationItem = curationItemRepository.findById(itemId)
+                .orElseThrow(() -> new CurationNotFoundException("아이템이 없습니다: " + itemId));
+
         curationItemBookRepository.deleteByCurationItemId(itemId);
         curationItemQuoteRepository.deleteByCurationItemId(itemId);
         curationItemRepository.deleteById(itemId);
+
+        eventPublisher.publishEvent(new CurationChangedEvent(curationItem.getMainCurationId()));
     }
 
     private CurationItem createCurationItem(CreateCurationRequest createCurationRequest) {
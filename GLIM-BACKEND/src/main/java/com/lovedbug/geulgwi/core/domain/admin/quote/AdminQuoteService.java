@@ -3,8 +3,11 @@ package com.lovedbug.geulgwi.core.domain.admin.quote;
 
 import com.lovedbug.geulgwi.core.domain.admin.dto.response.AdminQuoteResponse;
 import com.lovedbug.geulgwi.core.domain.admin.exception.QuoteNotFoundException;
+import com.lovedbug.geulgwi.core.domain.quote.QuoteDisplayCache;
+import com.lovedbug.geulgwi.core.domain.quote.event.QuoteDeletedEvent;
 import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -14,6 +17,8 @@ import java.util.stream.Collectors;
 public class AdminQuoteService {
 
     private final QuoteRepository quoteRepository;
+    private final QuoteDisplayCache quoteDisplayCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<AdminQuoteResponse> getAllQuotes() {
         return quoteRepository.findAll().stream()
@@ -26,6 +31,9 @@ public class AdminQuoteService {
             throw new QuoteNotFoundException(quoteId);
         }
         quoteRepository.deleteById(quoteId);
+
+        quoteDisplayCache.evict(quoteId);
+        eventPublisher.publishEvent(new QuoteDeletedEvent(quoteId));
     }
 }
 
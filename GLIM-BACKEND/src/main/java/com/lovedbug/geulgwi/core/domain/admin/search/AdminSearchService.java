@@ -10,7 +10,7 @@ import com.lovedbug.geulgwi.core.domain.member.Member;
 import com.lovedbug.geulgwi.core.domain.member.MemberRepository;
 import com.lovedbug.geulgwi.core.domain.member.dto.response.MemberResponse;
 import com.lovedbug.geulgwi.core.domain.member.mapper.MemberMapper;
-import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
+import com.lovedbug.geulgwi.core.domain.quote.search.QuoteSearchEngine;
 import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -23,7 +23,7 @@ import java.util.stream.Collectors;
 public class AdminSearchService {
 
     private final BookRepository bookRepository;
-    private final QuoteRepository quoteRepository;
+    private final QuoteSearchEngine quoteSearchEngine;
     private final MemberRepository memberRepository;
 
     public List<SearchBookResponse> searchBooks(String keyword, Pageable page) {
@@ -32,7 +32,7 @@ public class AdminSearchService {
     }
 
     public List<SearchQuoteResponse> searchQuotes(String keyword, Pageable page) {
-        List<Quote> quotes = quoteRepository.findByContentContainingIgnoreCase(keyword, page).getContent();
+        List<Quote> quotes = quoteSearchEngine.searchAll(keyword, page).getContent();
         return SearchQuoteMapper.toDtoList(quotes);
     }
 
@@ -61,8 +61,10 @@ public class AuthController {
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(
         @CurrentUser AuthenticatedUser user,
+        @RequestHeader(JwtUtil.HEADER_AUTH) String authHeader,
         @RequestBody LogoutRequest logoutRequest){
 
+        authService.logout(user, authHeader, logoutRequest.getRefreshToken());
         fcmTokenService.inActivateToken(user.getMemberId(), logoutRequest.getDeviceId());
 
         return ResponseEntity.noContent().build();
@@ -11,6 +11,9 @@ import com.lovedbug.geulgwi.core.domain.member.constant.MemberRole;
 import com.lovedbug.geulgwi.core.domain.member.constant.MemberStatus;
 import com.lovedbug.geulgwi.core.domain.member.exception.MemberException;
 import com.lovedbug.geulgwi.core.security.JwtUtil;
+import com.lovedbug.geulgwi.core.security.TokenRevocationService;
+import com.lovedbug.geulgwi.core.security.dto.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,6 +28,7 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
     private final MemberRepository memberRepository;
+    private final TokenRevocationService tokenRevocationService;
 
     public JwtResponse login(LoginRequest loginRequest){
 
@@ -57,21 +61,39 @@ public class AuthService {
 
         String refreshToken = extractTokenFromHeader(authHeader);
 
-        if (!jwtUtil.validateRefreshToken(refreshToken)){
-            throw new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN);
-        }
+        Claims claims = jwtUtil.parseRefreshToken(refreshToken)
+            .filter(parsed -> !tokenRevocationService.isRevoked(parsed))
+            .orElseThrow(() -> new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN));
 
-        String email = jwtUtil.extractEmail(refreshToken);
+        String email = claims.getSubject();
 
         Member member = memberRepository.findByEmail(email)
             .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
 
+        if (member.getStatus() != MemberStatus.ACTIVE) {
+            throw new MemberException(MemberErrorCode.MEMBER_INACTIVE, "memberId = " + member.getMemberId());
+        }
+
         String newAccessToken = jwtUtil.generateAccessToken(email, member.getMemberId());
         String newRefreshToken =  jwtUtil.generateRefreshToken(email, member.getMemberId());
 
         return toJwtResponse(newAccessToken, newRefreshToken, email, member.getMemberId());
     }
 
+    public void logout(AuthenticatedUser user, String authHeader, String refreshToken) {
+
+        jwtUtil.parseAccessToken(extractTokenFromHeader(authHeader))
+            .ifPresent(tokenRevocationService::revoke);
+
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+
+        jwtUtil.parseRefreshToken(refreshToken)
+            .filter(claims -> user.getMemberId().equals(claims.get(JwtUtil.CLAIM_MEMBER_ID, Long.class)))
+            .ifPresent(tokenRevocationService::revoke);
+    }
+
     private String extractTokenFromHeader(String authHeader){
         if (authHeader == null || !authHeader.startsWith(TOKEN_PREFIX)){
             throw new AuthException(AuthErrorCode.INVALID_AUTH_HEADER);
@@ -11,4 +11,5 @@ import lombok.NoArgsConstructor;
 @Getter
 public class LogoutRequest {
     private String deviceId;
+    private String refreshToken;
 }
@@ -0,0 +1,69 @@
+package com.lovedbug.geulgwi.core.domain.book;
+
+import lombok.RequiredArgsConstructor;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import com.lovedbug.geulgwi.core.domain.book.entity.Book;
+
+@Repository
+@RequiredArgsConstructor
+public class BookBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_PREFIX = """
+        INSERT INTO book (title, author, category, category_id, publisher, description,
+                          isbn, isbn13, published_date, cover_url, link_url)
+        VALUES
+        """;
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SUFFIX = """
+
+        ON CONFLICT (isbn) DO NOTHING
+        RETURNING book_id, title, author, isbn, cover_url
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Book> insertIgnoringDuplicates(List<Book> books) {
+        List<Book> inserted = new ArrayList<>(books.size());
+
+        for (int from = 0; from < books.size(); from += BATCH_SIZE) {
+            inserted.addAll(insertBatch(books.subList(from, Math.min(from + BATCH_SIZE, books.size()))));
+        }
+
+        return inserted;
+    }
+
+    private List<Book> insertBatch(List<Book> books) {
+        String sql = INSERT_PREFIX + String.join(",\n", Collections.nCopies(books.size(), VALUES_ROW)) + INSERT_SUFFIX;
+
+        List<Object> args = new ArrayList<>(books.size() * 11);
+
+        for (Book book : books) {
+            args.add(book.getTitle());
+            args.add(book.getAuthor());
+            args.add(book.getCategory());
+            args.add(book.getCategoryId());
+            args.add(book.getPublisher());
+            args.add(book.getDescription());
+            args.add(book.getIsbn());
+            args.add(book.getIsbn13());
+            args.add(book.getPublishedDate() != null ? Date.valueOf(book.getPublishedDate()) : null);
+            args.add(book.getCoverUrl());
+            args.add(book.getLinkUrl());
+        }
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> Book.builder()
+            .bookId(rs.getLong("book_id"))
+            .title(rs.getString("title"))
+            .author(rs.getString("author"))
+            .isbn(rs.getString("isbn"))
+            .coverUrl(rs.getString("cover_url"))
+            .build(), args.toArray());
+    }
+}
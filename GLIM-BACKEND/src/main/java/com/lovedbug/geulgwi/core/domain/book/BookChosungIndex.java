@@ -0,0 +1,78 @@
+package com.lovedbug.geulgwi.core.domain.book;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.lovedbug.geulgwi.core.common.search.ChosungIndex;
+import com.lovedbug.geulgwi.core.domain.book.dto.BookChosungResponse;
+import com.lovedbug.geulgwi.core.domain.book.event.BookSavedEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookChosungIndex {
+
+    private volatile ChosungIndex<BookChosungResponse> index = new ChosungIndex<>();
+
+    private final Object rebuildLock = new Object();
+    private List<Consumer<ChosungIndex<BookChosungResponse>>> pendingUpdates;
+
+    private final BookRepository bookRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            bufferUpdates(new ArrayList<>());
+
+            try {
+                List<BookChosungResponse> books = bookRepository.findAllChosungResponses();
+
+                ChosungIndex<BookChosungResponse> rebuilt = new ChosungIndex<>();
+
+                for (BookChosungResponse book : books) {
+                    rebuilt.put(book.bookId(), book.title(), book);
+                }
+
+                replayAndSwap(rebuilt);
+            } finally {
+                bufferUpdates(null);
+            }
+        }
+
+        log.info("책 초성 색인 생성 완료. size = {}", index.size());
+    }
+
+    public List<BookChosungResponse> search(String chosung, int limit) {
+        return index.search(chosung, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        BookChosungResponse book = new BookChosungResponse(event.bookId(), event.title(), event.author(), event.coverUrl());
+
+        apply(target -> target.put(event.bookId(), event.title(), book));
+    }
+
+    private synchronized void apply(Consumer<ChosungIndex<BookChosungResponse>> update) {
+        update.accept(index);
+
+        if (pendingUpdates != null) {
+            pendingUpdates.add(update);
+        }
+    }
+
+    private synchronized void bufferUpdates(List<Consumer<ChosungIndex<BookChosungResponse>>> buffer) {
+        pendingUpdates = buffer;
+    }
+
+    private synchronized void replayAndSwap(ChosungIndex<BookChosungResponse> rebuilt) {
+        pendingUpdates.forEach(update -> update.accept(rebuilt));
+        index = rebuilt;
+    }
+}
@@ -1,11 +1,17 @@
 package com.lovedbug.geulgwi.core.domain.book;
 
+import com.lovedbug.geulgwi.core.common.http.CachePolicy;
+import com.lovedbug.geulgwi.core.common.http.ConditionalResponses;
+import com.lovedbug.geulgwi.core.common.ranking.TimeWindow;
+import com.lovedbug.geulgwi.core.domain.book.dto.BookChosungResponse;
 import com.lovedbug.geulgwi.core.domain.book.dto.BookInfoResponse;
+import com.lovedbug.geulgwi.core.domain.book.dto.PopularBookResponse;
 import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookResponse;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.lovedbug.geulgwi.external.book_provider.aladdin.constant.AladdinListQueryType;
@@ -29,12 +35,22 @@ public class BookController {
                 .body(bookService.getBooksByKeyword(searchQueryType, keyword, page));
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<BookInfoResponse> getBookInfo(@PathVariable(value = "id") long bookId) {
+    @GetMapping("/by-chosung")
+    public ResponseEntity<List<BookChosungResponse>> searchBooksByChosung(
+            @RequestParam(name = "chosung") String chosung,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
 
         return ResponseEntity
                 .ok()
-                .body(bookService.getBookInfoById(bookId));
+                .body(bookService.searchBooksByChosung(chosung, limit));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BookInfoResponse> getBookInfo(
+            @PathVariable(value = "id") long bookId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return ConditionalResponses.of(ifNoneMatch, bookService.getBookInfoById(bookId), CachePolicy.BOOK_DETAIL);
     }
 
     @GetMapping("/popular")
@@ -47,6 +63,17 @@ public class BookController {
                 .body(bookService.getBestSellerBooks(listQueryType, page));
     }
 
+    @GetMapping("/ranking")
+    public ResponseEntity<List<PopularBookResponse>> getPopularBooks(
+            @RequestParam(name = "categoryId", required = false) Integer categoryId,
+            @RequestParam(name = "window", defaultValue = "DAY") TimeWindow window,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+
+        return ResponseEntity
+                .ok()
+                .body(bookService.getPopularBooks(categoryId, window, limit));
+    }
+
     @PatchMapping("/{id}/views")
     public ResponseEntity<Void> increaseViewCount(@PathVariable(value = "id") long bookId) {
 
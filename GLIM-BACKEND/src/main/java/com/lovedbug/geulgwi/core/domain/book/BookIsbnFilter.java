@@ -0,0 +1,60 @@
+package com.lovedbug.geulgwi.core.domain.book;
+
+import lombok.extern.slf4j.Slf4j;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import com.lovedbug.geulgwi.core.common.bloom.BloomFilter;
+
+@Slf4j
+@Component
+public class BookIsbnFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final BookRepository bookRepository;
+    private final long expectedInsertions;
+
+    private volatile BloomFilter filter;
+
+    public BookIsbnFilter(BookRepository bookRepository,
+                          @Value("${book.isbn-filter.expected-insertions:1000000}") long expectedInsertions) {
+        this.bookRepository = bookRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.filter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<String> isbns = bookRepository.findAllIsbns();
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, isbns.size() * 2L), FALSE_POSITIVE_RATE);
+        isbns.forEach(rebuilt::put);
+
+        filter = rebuilt;
+
+        log.info("ISBN 필터 생성 완료. size = {}", isbns.size());
+    }
+
+    public Set<String> findKnown(Collection<String> isbns) {
+        List<String> candidates = isbns.stream()
+            .filter(filter::mightContain)
+            .toList();
+
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(bookRepository.findExistingIsbns(candidates));
+    }
+
+    public void register(Collection<String> isbns) {
+        BloomFilter current = filter;
+        isbns.forEach(current::put);
+    }
+}
@@ -0,0 +1,22 @@
+package com.lovedbug.geulgwi.core.domain.book;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BookRankingScheduler {
+
+    private final BookRankingService bookRankingService;
+
+    @Scheduled(fixedDelayString = "${ranking.window-refresh-interval-millis:60000}")
+    public void refreshTrendingBooks() {
+        bookRankingService.refreshTrendingWindows();
+    }
+
+    @Scheduled(cron = "${ranking.book-prune-cron:0 15 * * * *}")
+    public void pruneDeletedBooks() {
+        bookRankingService.pruneDeletedBooks();
+    }
+}
@@ -1,15 +1,22 @@
 package com.lovedbug.geulgwi.core.domain.book;
 
 import lombok.RequiredArgsConstructor;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lovedbug.geulgwi.core.common.constant.RedisKey;
-import com.lovedbug.geulgwi.core.common.exception.GeulgwiException;
+import com.lovedbug.geulgwi.core.common.ranking.TimeWindow;
+import com.lovedbug.geulgwi.core.common.ranking.TrendingRankingStore;
+import com.lovedbug.geulgwi.core.common.view.ViewCountFlushedEvent;
+import com.lovedbug.geulgwi.core.common.view.ViewTarget;
 import com.lovedbug.geulgwi.core.domain.book.dto.PopularBookResponse;
 import com.lovedbug.geulgwi.core.domain.book.entity.Book;
 import com.lovedbug.geulgwi.core.domain.book.mapper.BookMapper;
@@ -20,47 +27,111 @@ public class BookRankingService {
 
     private static final double VIEW_INCREMENT_SCORE = 1.0;
     private static final int TOP_RANKING_LIMIT = 10;
+    private static final int CANDIDATE_MULTIPLIER = 2;
 
+    private final TrendingRankingStore trendingRankingStore;
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final BookRepository bookRepository;
 
     public List<PopularBookResponse> getPopularBooks() {
-        return Optional.ofNullable(redisTemplate.opsForZSet()
-                .reverseRange(RedisKey.POPULAR_BOOKS.getKey(), 0, TOP_RANKING_LIMIT - 1))
-            .orElse(Collections.emptySet())
-            .stream()
-            .map(json -> {
-                try {
-                    return objectMapper.readValue(json, PopularBookResponse.class);
-                } catch (JsonProcessingException e) {
-                    throw new GeulgwiException("책 Redis 에서 역직렬화 실패", e);
-                }
-            })
+        return getPopularBooks(null, TimeWindow.DAY, TOP_RANKING_LIMIT);
+    }
+
+    public List<PopularBookResponse> getPopularBooks(Integer categoryId, TimeWindow window, int limit) {
+        String prefix = rankingPrefix(categoryId);
+        List<Long> bookIds = trendingRankingStore.top(prefix, window, limit * CANDIDATE_MULTIPLIER).stream()
+            .map(Long::valueOf)
+            .toList();
+
+        Map<Long, Book> booksById = bookRepository.findAllById(bookIds).stream()
+            .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+
+        pruneMissingBooks(prefix, bookIds, booksById);
+
+        return bookIds.stream()
+            .map(booksById::get)
+            .filter(Objects::nonNull)
+            .limit(limit)
+            .map(BookMapper::toPopularBookResponse)
             .toList();
     }
 
-    public void updateBookRanking(Book book) {
-        PopularBookResponse popularBookResponse = BookMapper.toPopularBookResponse(book);
+    public void refreshTrendingWindows() {
+        for (TimeWindow window : TimeWindow.values()) {
+            trendingRankingStore.rebuildWindow(RedisKey.TRENDING_BOOKS.getKey(), window);
+        }
+    }
 
-        try {
-            String popularBookStr = objectMapper.writeValueAsString(popularBookResponse);
-            Double score = calculateScore(popularBookStr, book);
+    public void pruneDeletedBooks() {
+        List<Long> bookIds = trendingRankingStore
+            .top(RedisKey.TRENDING_BOOKS.getKey(), TimeWindow.WEEK, Integer.MAX_VALUE)
+            .stream()
+            .map(Long::valueOf)
+            .toList();
 
-            redisTemplate.opsForZSet().incrementScore(RedisKey.POPULAR_BOOKS.getKey(), popularBookStr, score);
+        if (bookIds.isEmpty()) {
+            return;
+        }
 
-        } catch (JsonProcessingException e) {
-            throw new GeulgwiException("글귀 Redis 에서 직렬화 실패", e);
+        Set<Long> existingIds = new HashSet<>(bookRepository.findExistingBookIds(bookIds));
+        List<String> members = bookIds.stream()
+            .filter(bookId -> !existingIds.contains(bookId))
+            .map(String::valueOf)
+            .toList();
+
+        if (members.isEmpty()) {
+            return;
+        }
+
+        trendingRankingStore.remove(RedisKey.TRENDING_BOOKS.getKey(), members);
+
+        for (String categoryId : redisTemplate.opsForSet().members(RedisKey.TRENDING_BOOK_CATEGORIES.getKey())) {
+            trendingRankingStore.remove(RedisKey.TRENDING_BOOKS_BY_CATEGORY.getKey() + categoryId, members);
         }
     }
 
-    private Double calculateScore(String popularBookStr, Book book) {
-        Double currentScore = redisTemplate.opsForZSet().score(RedisKey.POPULAR_BOOKS.getKey(), popularBookStr);
-        Double score = VIEW_INCREMENT_SCORE;
+    @EventListener
+    public void onViewCountFlushed(ViewCountFlushedEvent event) {
+        if (event.target() != ViewTarget.BOOK) {
+            return;
+        }
+
+        Map<String, Map<String, Double>> scoresByPrefix = new HashMap<>();
+        Set<String> categoryIds = new HashSet<>();
+
+        for (Object[] row : bookRepository.findCategoryIdsByBookIds(List.copyOf(event.deltas().keySet()))) {
+            Long bookId = (Long) row[0];
+            Integer categoryId = (Integer) row[1];
+            String member = String.valueOf(bookId);
+            double score = VIEW_INCREMENT_SCORE * event.deltas().get(bookId);
+
+            scoresByPrefix.computeIfAbsent(RedisKey.TRENDING_BOOKS.getKey(), key -> new HashMap<>()).put(member, score);
+
+            if (categoryId != null) {
+                scoresByPrefix.computeIfAbsent(rankingPrefix(categoryId), key -> new HashMap<>()).put(member, score);
+                categoryIds.add(String.valueOf(categoryId));
+            }
+        }
+
+        trendingRankingStore.incrementAll(scoresByPrefix);
 
-        if (currentScore != null) {
-            score *= book.getViews();
+        if (!categoryIds.isEmpty()) {
+            redisTemplate.opsForSet().add(RedisKey.TRENDING_BOOK_CATEGORIES.getKey(), categoryIds.toArray(String[]::new));
         }
+    }
+
+    private void pruneMissingBooks(String prefix, List<Long> bookIds, Map<Long, Book> booksById) {
+        List<String> missingMembers = bookIds.stream()
+            .filter(bookId -> !booksById.containsKey(bookId))
+            .map(String::valueOf)
+            .toList();
+
+        trendingRankingStore.remove(prefix, missingMembers);
+    }
 
-        return score;
+    private String rankingPrefix(Integer categoryId) {
+        return (categoryId == null)
+            ? RedisKey.TRENDING_BOOKS.getKey()
+            : RedisKey.TRENDING_BOOKS_BY_CATEGORY.getKey() + categoryId;
     }
 }
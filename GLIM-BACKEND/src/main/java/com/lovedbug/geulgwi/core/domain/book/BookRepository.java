@@ -3,10 +3,13 @@ package com.lovedbug.geulgwi.core.domain.book;
 import java.util.List;
 import java.util.Optional;
 
+import com.lovedbug.geulgwi.core.domain.book.dto.BookChosungResponse;
 import com.lovedbug.geulgwi.core.domain.book.entity.Book;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,7 +21,30 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     boolean existsByIsbn(String isbn);
 
-    List<Book> findTop10ByOrderByViewsDesc();
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") List<String> isbns);
+
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IS NOT NULL")
+    List<String> findAllIsbns();
+
+    @Query("SELECT b.bookId FROM Book b WHERE b.bookId IN :bookIds")
+    List<Long> findExistingBookIds(@Param("bookIds") List<Long> bookIds);
+
+    @Query("SELECT b.bookId, b.categoryId FROM Book b WHERE b.bookId IN :bookIds")
+    List<Object[]> findCategoryIdsByBookIds(@Param("bookIds") List<Long> bookIds);
+
+    @Query("""
+        SELECT new com.lovedbug.geulgwi.core.domain.book.dto.BookChosungResponse(b.bookId, b.title, b.author, b.coverUrl)
+        FROM Book b ORDER BY b.bookId
+        """)
+    List<BookChosungResponse> findAllChosungResponses();
+
+    @Query("SELECT b.title, b.views FROM Book b WHERE b.title IS NOT NULL")
+    List<Object[]> findAllTitlesWithViews();
 
     Page<Book> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+
+    Page<Book> findByAuthorContainingIgnoreCase(String author, Pageable pageable);
+
+    Page<Book> findByPublisherContainingIgnoreCase(String publisher, Pageable pageable);
 }
@@ -1,36 +1,62 @@
 package com.lovedbug.geulgwi.core.domain.book;
 
+import com.lovedbug.geulgwi.core.common.http.Versioned;
+import com.lovedbug.geulgwi.core.common.ranking.TimeWindow;
+import com.lovedbug.geulgwi.core.common.view.ViewCountBuffer;
+import com.lovedbug.geulgwi.core.common.view.ViewTarget;
+import com.lovedbug.geulgwi.core.domain.book.dto.BookChosungResponse;
 import com.lovedbug.geulgwi.core.domain.book.dto.BookInfoResponse;
 import com.lovedbug.geulgwi.core.domain.book.dto.PopularBookResponse;
 import com.lovedbug.geulgwi.core.domain.book.entity.Book;
+import com.lovedbug.geulgwi.core.domain.book.event.BookSavedEvent;
 import com.lovedbug.geulgwi.core.domain.book.mapper.BookMapper;
 import com.lovedbug.geulgwi.core.domain.search.SearchKeywordService;
 import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookResponse;
+import feign.FeignException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import com.lovedbug.geulgwi.external.book_provider.aladdin.AladdinClient;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.CachedAladdinClient;
 import com.lovedbug.geulgwi.external.book_provider.aladdin.constant.AladdinListQueryType;
 import com.lovedbug.geulgwi.external.book_provider.aladdin.constant.AladdinSearchQueryType;
 import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookListConditionDto;
 import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookSearchConditionDto;
+import com.lovedbug.geulgwi.external.resilience.ExternalCallGuard;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookService {
 
-    private final AladdinClient bookProviderClient;
+    private static final int MAX_RANKING_LIMIT = 50;
+    private static final int MAX_CHOSUNG_LIMIT = 50;
+    private static final int LOCAL_FALLBACK_PAGE_SIZE = 10;
+
+    private final CachedAladdinClient bookProviderClient;
 
     private final SearchKeywordService searchKeywordService;
     private final BookRankingService bookRankingService;
+    private final BookChosungIndex bookChosungIndex;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final BookRepository bookRepository;
+    private final BookBulkRepository bookBulkRepository;
+    private final BookIsbnFilter bookIsbnFilter;
 
     public List<AladdinBookResponse> getBooksByKeyword(AladdinSearchQueryType queryType, String keyword, int page) {
         AladdinBookSearchConditionDto searchCondition = AladdinBookSearchConditionDto.builder()
@@ -41,14 +67,23 @@ public class BookService {
 
         searchKeywordService.increaseKeywordScore(keyword);
 
-        return bookProviderClient.searchBooksByCondition(searchCondition).getItems();
+        try {
+            return bookProviderClient.searchBooksByCondition(searchCondition);
+        } catch (RuntimeException e) {
+            if (!isProviderUnavailable(e)) {
+                throw e;
+            }
+
+            log.warn("알라딘 검색 불가로 로컬 도서에서 검색합니다. keyword={}, cause={}", keyword, e.toString());
+            return searchLocalBooks(queryType, keyword, page);
+        }
     }
 
-    public BookInfoResponse getBookInfoById(long bookId) {
+    public Versioned<BookInfoResponse> getBookInfoById(long bookId) {
         Book book = bookRepository.findBookByBookId(bookId)
             .orElseThrow(() -> new EntityNotFoundException("해당하는 책이 없습니다 bookId = " + bookId));
 
-        return BookMapper.toBookInfoResponse(book);
+        return Versioned.of(BookMapper.toBookInfoResponse(book), book.getBookId(), book.getUpdatedAt(), book.getViews());
     }
 
     public List<AladdinBookResponse> getBestSellerBooks(AladdinListQueryType listQueryType, int page) {
@@ -57,55 +92,106 @@ public class BookService {
             .start(page)
             .build();
 
-        return bookProviderClient.getBooks(listCondition).getItems();
+        try {
+            return bookProviderClient.getBooks(listCondition);
+        } catch (RuntimeException e) {
+            if (!isProviderUnavailable(e)) {
+                throw e;
+            }
+
+            log.warn("알라딘 목록 조회 불가로 로컬 인기 도서를 반환합니다. queryType={}, cause={}", listQueryType, e.toString());
+            return toAladdinBookResponses(bookRepository.findAll(localFallbackPage(page)));
+        }
     }
 
-    public List<PopularBookResponse> getPopularBooks() {
-        List<Book> books = bookRepository.findTop10ByOrderByViewsDesc();
+    public List<PopularBookResponse> getPopularBooks(Integer categoryId, TimeWindow window, int limit) {
+        return bookRankingService.getPopularBooks(categoryId, window, Math.clamp(limit, 1, MAX_RANKING_LIMIT));
+    }
 
-        return books.stream()
-            .map(BookMapper::toPopularBookResponse)
-            .toList();
+    public List<BookChosungResponse> searchBooksByChosung(String chosung, int limit) {
+        return bookChosungIndex.search(chosung, Math.clamp(limit, 1, MAX_CHOSUNG_LIMIT));
     }
 
-    @Transactional
     public void increaseViewCount(Long bookId) {
-        Book book = bookRepository.findById(bookId)
-            .orElseThrow(() -> new EntityNotFoundException("없는 책 id 입니다. 책 id = " + bookId));
-
-        bookRankingService.updateBookRanking(book);
-        book.increaseViewCount();
+        viewCountBuffer.increase(ViewTarget.BOOK, bookId);
     }
 
     @Transactional
-    public void saveBooksFromExternal(List<AladdinBookResponse> aladdinBooks) {
+    public int saveBooksFromExternal(List<AladdinBookResponse> aladdinBooks) {
+        Map<String, AladdinBookResponse> booksByIsbn = new LinkedHashMap<>();
+
         for (AladdinBookResponse aladdinBook : aladdinBooks) {
             String isbn = aladdinBook.getIsbn();
             if (isbn == null || isbn.isBlank()) {
                 continue;
             }
 
-            if (bookRepository.existsByIsbn(isbn)) {
-                continue;
-            }
+            booksByIsbn.putIfAbsent(isbn.trim(), aladdinBook);
+        }
+
+        booksByIsbn.keySet().removeAll(bookIsbnFilter.findKnown(booksByIsbn.keySet()));
 
-            Book book = Book.builder()
-                .isbn(aladdinBook.getIsbn())
-                .title(aladdinBook.getTitle())
-                .author(aladdinBook.getAuthor())
-                .category(aladdinBook.getCategoryName())
-                .categoryId(aladdinBook.getCategoryId())
-                .publisher(aladdinBook.getPublisher())
-                .description(aladdinBook.getDescription())
-                .isbn(aladdinBook.getIsbn())
-                .isbn13(aladdinBook.getIsbn13())
-                .publishedDate(
-                    LocalDate.parse(aladdinBook.getPublishedDate(), DateTimeFormatter.ISO_LOCAL_DATE))
-                .coverUrl(aladdinBook.getCoverUrl())
-                .linkUrl(aladdinBook.getLinkUrl())
-                .build();
-
-            bookRepository.save(book);
+        if (booksByIsbn.isEmpty()) {
+            return 0;
         }
+
+        List<Book> books = booksByIsbn.entrySet().stream()
+            .map(entry -> toBook(entry.getKey(), entry.getValue()))
+            .toList();
+
+        List<Book> savedBooks = bookBulkRepository.insertIgnoringDuplicates(books);
+
+        bookIsbnFilter.register(booksByIsbn.keySet());
+
+        for (Book savedBook : savedBooks) {
+            eventPublisher.publishEvent(new BookSavedEvent(savedBook.getBookId(), savedBook.getTitle(),
+                savedBook.getAuthor(), savedBook.getCoverUrl()));
+        }
+
+        return savedBooks.size();
+    }
+
+    private List<AladdinBookResponse> searchLocalBooks(AladdinSearchQueryType queryType, String keyword, int page) {
+        Pageable pageable = localFallbackPage(page);
+
+        Page<Book> books = switch (queryType) {
+            case AUTHOR -> bookRepository.findByAuthorContainingIgnoreCase(keyword, pageable);
+            case PUBLISHER -> bookRepository.findByPublisherContainingIgnoreCase(keyword, pageable);
+            case KEYWORD, TITLE -> bookRepository.findByTitleContainingIgnoreCase(keyword, pageable);
+        };
+
+        return toAladdinBookResponses(books);
+    }
+
+    private List<AladdinBookResponse> toAladdinBookResponses(Page<Book> books) {
+        return books.stream()
+            .map(BookMapper::toAladdinBookResponse)
+            .toList();
+    }
+
+    private Pageable localFallbackPage(int page) {
+        return PageRequest.of(Math.max(page - 1, 0), LOCAL_FALLBACK_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "views"));
+    }
+
+    private boolean isProviderUnavailable(RuntimeException e) {
+        return ExternalCallGuard.isRejected(e) || e instanceof FeignException;
+    }
+
+    private Book toBook(String isbn, AladdinBookResponse aladdinBook) {
+        return Book.builder()
+            .title(aladdinBook.getTitle())
+            .author(aladdinBook.getAuthor())
+            .category(aladdinBook.getCategoryName())
+            .categoryId(aladdinBook.getCategoryId())
+            .publisher(aladdinBook.getPublisher())
+            .description(aladdinBook.getDescription())
+            .isbn(isbn)
+            .isbn13(aladdinBook.getIsbn13())
+            .publishedDate(aladdinBook.getPublishedDate() != null
+                ? LocalDate.parse(aladdinBook.getPublishedDate(), DateTimeFormatter.ISO_LOCAL_DATE)
+                : null)
+            .coverUrl(aladdinBook.getCoverUrl())
+            .linkUrl(aladdinBook.getLinkUrl())
+            .build();
     }
 }
@@ -0,0 +1,10 @@
+package com.lovedbug.geulgwi.core.domain.book.dto;
+
+public record BookChosungResponse(
+
+    Long bookId,
+    String title,
+    String author,
+    String coverUrl
+) {
+}
@@ -36,6 +36,7 @@ public class Book extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @Column(unique = true)
     private String isbn;
 
     private String isbn13;
@@ -48,9 +49,5 @@ public class Book extends BaseTimeEntity {
 
     @Builder.Default
     private Integer views = 0;
-
-    public void increaseViewCount() {
-        this.views += 1;
-    }
 }
 
@@ -0,0 +1,53 @@
+package com.lovedbug.geulgwi.core.domain.book.entity;
+
+import com.lovedbug.geulgwi.core.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "book_sync_cursor")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSyncCursor extends BaseTimeEntity {
+
+    @Id
+    @Column(length = 100)
+    private String keyword;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer nextPage = 1;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean completed = false;
+
+    private LocalDateTime lastSyncedAt;
+
+    public boolean isDue(LocalDateTime refreshedBefore) {
+        return !completed || lastSyncedAt == null || lastSyncedAt.isBefore(refreshedBefore);
+    }
+
+    public void restartIfCompleted() {
+        if (completed) {
+            this.completed = false;
+            this.nextPage = 1;
+        }
+    }
+
+    public void advanceTo(int nextPage) {
+        this.nextPage = nextPage;
+        this.lastSyncedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.lastSyncedAt = LocalDateTime.now();
+    }
+}
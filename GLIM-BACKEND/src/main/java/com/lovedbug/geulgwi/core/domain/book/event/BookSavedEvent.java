@@ -0,0 +1,9 @@
+package com.lovedbug.geulgwi.core.domain.book.event;
+
+public record BookSavedEvent(
+    Long bookId,
+    String title,
+    String author,
+    String coverUrl
+) {
+}
@@ -4,6 +4,7 @@ import java.time.format.DateTimeFormatter;
 import com.lovedbug.geulgwi.core.domain.book.dto.BookInfoResponse;
 import com.lovedbug.geulgwi.core.domain.book.dto.PopularBookResponse;
 import com.lovedbug.geulgwi.core.domain.book.entity.Book;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookResponse;
 
 public class BookMapper {
 
@@ -27,6 +28,23 @@ public class BookMapper {
         );
     }
 
+    public static AladdinBookResponse toAladdinBookResponse(Book book) {
+        return AladdinBookResponse.builder()
+            .title(book.getTitle())
+            .linkUrl(book.getLinkUrl())
+            .author(book.getAuthor())
+            .translator(book.getTranslator())
+            .publishedDate(book.getPublishedDate() != null ? book.getPublishedDate().format(DATE_FORMATTER) : null)
+            .description(book.getDescription())
+            .isbn(book.getIsbn())
+            .isbn13(book.getIsbn13())
+            .coverUrl(book.getCoverUrl())
+            .categoryId(book.getCategoryId() != null ? book.getCategoryId() : 0)
+            .categoryName(book.getCategory())
+            .publisher(book.getPublisher())
+            .build();
+    }
+
     public static PopularBookResponse toPopularBookResponse(Book book) {
         return PopularBookResponse.builder()
             .bookId(book.getBookId())
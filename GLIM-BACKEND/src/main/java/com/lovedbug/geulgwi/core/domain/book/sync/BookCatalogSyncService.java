@@ -0,0 +1,212 @@
+package com.lovedbug.geulgwi.core.domain.book.sync;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+import com.lovedbug.geulgwi.core.domain.book.BookService;
+import com.lovedbug.geulgwi.core.domain.book.entity.BookSyncCursor;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.AladdinClient;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.constant.AladdinSearchQueryType;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookResponse;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookSearchConditionDto;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookSearchDto;
+import com.lovedbug.geulgwi.external.resilience.ExternalCallGuard;
+import com.lovedbug.geulgwi.external.resilience.ExternalDownstream;
+
+@Slf4j
+@Service
+public class BookCatalogSyncService {
+
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final RedisScript<Long> LOCK_RELEASE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/lock_release.lua"), Long.class);
+    private static final RedisScript<Long> LOCK_EXTEND_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/lock_extend.lua"), Long.class);
+    private static final int MAX_PAGE = 50;
+    private static final String RATE_LIMITER_NAME = "aladdin-sync";
+
+    private static final List<String> KEYWORDS = List.of(
+        "삶", "시간", "존재", "인간", "마음", "생각", "관계", "성장", "변화", "선택",
+        "습관", "몰입", "치유", "용기", "자존감", "행복", "성찰", "감정", "고요", "멈춤",
+        "사랑", "그리움", "이별", "기억", "계절", "여행", "밤", "바람", "별", "꿈",
+        "고백", "편지", "하루", "순간", "희망", "외로움", "눈물", "위로", "고마움", "약속",
+        "돈", "부자", "투자", "자산", "경제", "성공", "리더십", "전략", "실행", "목표",
+        "마케팅", "창업", "생산성", "기획", "직장", "일잘러", "협업", "조직", "성과",
+        "뇌", "우주", "진화", "인공지능", "데이터", "기술", "알고리즘", "생명", "로봇",
+        "양자", "심리", "뇌과학", "행동", "통계", "인류", "환경", "기후", "문명", "미래",
+        "육아", "공부", "글쓰기", "독서", "그림", "요리", "정리", "다이어트", "여행기", "사진",
+        "명상", "하루루틴", "아침습관", "시간관리", "커뮤니케이션", "자녀교육", "자기관리", "번아웃", "MBTI", "일기"
+    );
+
+    private final AladdinClient aladdinClient;
+    private final ExternalCallGuard externalCallGuard;
+    private final BookService bookService;
+    private final BookSyncCursorRepository bookSyncCursorRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimiter rateLimiter;
+    private final int parallelism;
+    private final Duration refreshInterval;
+
+    public BookCatalogSyncService(AladdinClient aladdinClient, ExternalCallGuard externalCallGuard,
+                                  BookService bookService, BookSyncCursorRepository bookSyncCursorRepository,
+                                  RedisTemplate<String, String> redisTemplate, RateLimiterRegistry rateLimiterRegistry,
+                                  @Value("${book-sync.parallelism:5}") int parallelism,
+                                  @Value("${book-sync.refresh-interval-days:7}") int refreshIntervalDays) {
+        this.aladdinClient = aladdinClient;
+        this.externalCallGuard = externalCallGuard;
+        this.bookService = bookService;
+        this.bookSyncCursorRepository = bookSyncCursorRepository;
+        this.redisTemplate = redisTemplate;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER_NAME);
+        this.parallelism = parallelism;
+        this.refreshInterval = Duration.ofDays(refreshIntervalDays);
+    }
+
+    public void syncCatalog() {
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue()
+            .setIfAbsent(RedisKey.BOOK_SYNC_LOCK.getKey(), lockToken, LOCK_TTL);
+
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("다른 노드에서 도서 동기화가 진행 중이라 건너뜁니다.");
+            return;
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            LocalDateTime refreshedBefore = LocalDateTime.now().minus(refreshInterval);
+
+            for (String keyword : KEYWORDS) {
+                if (!extendLock(lockToken)) {
+                    log.warn("도서 동기화 락을 잃어 동기화를 중단합니다. keyword={}", keyword);
+                    return;
+                }
+
+                syncKeyword(keyword, refreshedBefore, executor);
+            }
+        } finally {
+            redisTemplate.execute(LOCK_RELEASE_SCRIPT, List.of(RedisKey.BOOK_SYNC_LOCK.getKey()), lockToken);
+        }
+    }
+
+    private boolean extendLock(String lockToken) {
+        Long extended = redisTemplate.execute(LOCK_EXTEND_SCRIPT, List.of(RedisKey.BOOK_SYNC_LOCK.getKey()),
+            lockToken, String.valueOf(LOCK_TTL.toMillis()));
+
+        return extended != null && extended == 1L;
+    }
+
+    private void syncKeyword(String keyword, LocalDateTime refreshedBefore, ExecutorService executor) {
+        BookSyncCursor cursor = bookSyncCursorRepository.findById(keyword)
+            .orElseGet(() -> BookSyncCursor.builder().keyword(keyword).build());
+
+        if (!cursor.isDue(refreshedBefore)) {
+            return;
+        }
+
+        cursor.restartIfCompleted();
+        int page = cursor.getNextPage();
+        int savedCount = 0;
+
+        try {
+            while (page <= MAX_PAGE) {
+                List<Future<SyncPage>> wave = fetchWave(keyword, page, executor);
+                boolean exhausted = false;
+
+                for (Future<SyncPage> future : wave) {
+                    SyncPage syncPage = await(future);
+
+                    if (!syncPage.books().isEmpty()) {
+                        savedCount += bookService.saveBooksFromExternal(syncPage.books());
+                    }
+
+                    page++;
+
+                    if (syncPage.last()) {
+                        exhausted = true;
+                        break;
+                    }
+                }
+
+                if (exhausted) {
+                    wave.forEach(future -> future.cancel(true));
+                    break;
+                }
+
+                cursor.advanceTo(page);
+                bookSyncCursorRepository.save(cursor);
+            }
+
+            cursor.complete();
+        } catch (RuntimeException e) {
+            log.warn("도서 동기화 중단, 다음 주기에 이어서 진행합니다. keyword={}, page={}", keyword, page, e);
+            cursor.advanceTo(page);
+        }
+
+        bookSyncCursorRepository.save(cursor);
+        log.info("도서 동기화 완료. keyword={}, saved={}, nextPage={}", keyword, savedCount, cursor.getNextPage());
+    }
+
+    private List<Future<SyncPage>> fetchWave(String keyword, int fromPage, ExecutorService executor) {
+        int toPage = Math.min(fromPage + parallelism - 1, MAX_PAGE);
+        List<Future<SyncPage>> wave = new ArrayList<>(toPage - fromPage + 1);
+
+        for (int page = fromPage; page <= toPage; page++) {
+            int target = page;
+            wave.add(executor.submit(() -> fetchPage(keyword, target)));
+        }
+
+        return wave;
+    }
+
+    private SyncPage fetchPage(String keyword, int page) {
+        AladdinBookSearchConditionDto condition = AladdinBookSearchConditionDto.builder()
+            .queryType(AladdinSearchQueryType.KEYWORD.name())
+            .query(keyword)
+            .start(page)
+            .build();
+
+        AladdinBookSearchDto response = RateLimiter.decorateSupplier(rateLimiter,
+            () -> externalCallGuard.call(ExternalDownstream.ALADDIN, () -> aladdinClient.searchBooksByCondition(condition)))
+            .get();
+
+        List<AladdinBookResponse> books =
+            (response != null && response.getItems() != null) ? response.getItems() : List.of();
+
+        return new SyncPage(books, books.size() < condition.getMaxResults());
+    }
+
+    private SyncPage await(Future<SyncPage> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("도서 동기화가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("도서 조회에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private record SyncPage(
+        List<AladdinBookResponse> books,
+        boolean last
+    ) {
+    }
+}
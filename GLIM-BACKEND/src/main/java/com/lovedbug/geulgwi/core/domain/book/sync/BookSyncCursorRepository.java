@@ -0,0 +1,9 @@
+package com.lovedbug.geulgwi.core.domain.book.sync;
+
+import com.lovedbug.geulgwi.core.domain.book.entity.BookSyncCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BookSyncCursorRepository extends JpaRepository<BookSyncCursor, String> {
+}
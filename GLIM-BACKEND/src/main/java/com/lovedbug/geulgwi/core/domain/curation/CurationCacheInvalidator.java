@@ -0,0 +1,83 @@
+package com.lovedbug.geulgwi.core.domain.curation;
+
+import lombok.extern.slf4j.Slf4j;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+import com.lovedbug.geulgwi.core.domain.curation.event.CurationChangedEvent;
+import com.lovedbug.geulgwi.core.domain.curation.event.CurationChangedMessage;
+
+@Slf4j
+@Component
+public class CurationCacheInvalidator implements MessageListener {
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private final CurationCacheService curationCacheService;
+    private final CurationSnapshotService curationSnapshotService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CurationCacheInvalidator(CurationCacheService curationCacheService,
+                                    CurationSnapshotService curationSnapshotService, StringRedisTemplate stringRedisTemplate,
+                                    ObjectMapper objectMapper, RedisMessageListenerContainer listenerContainer) {
+        this.curationCacheService = curationCacheService;
+        this.curationSnapshotService = curationSnapshotService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKey.CURATION_CHANGED_CHANNEL.getKey()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurationChanged(CurationChangedEvent event) {
+        if (event.mainCurationId() == null) {
+            return;
+        }
+
+        long curationId = event.mainCurationId();
+
+        curationCacheService.refreshBookCurations(curationId);
+        curationCacheService.refreshQuoteCurations(curationId);
+        curationSnapshotService.rebuild();
+
+        publish(new CurationChangedMessage(origin, curationId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            CurationChangedMessage changed = objectMapper.readValue(body, CurationChangedMessage.class);
+
+            if (origin.equals(changed.origin())) {
+                return;
+            }
+
+            curationCacheService.evictLocal(changed.mainCurationId());
+            curationSnapshotService.rebuild();
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("큐레이션 스냅샷 갱신 실패. message={}", body, e);
+        }
+    }
+
+    private void publish(CurationChangedMessage changed) {
+        try {
+            stringRedisTemplate.convertAndSend(RedisKey.CURATION_CHANGED_CHANNEL.getKey(),
+                objectMapper.writeValueAsString(changed));
+        } catch (JsonProcessingException e) {
+            log.warn("큐레이션 변경 메시지 직렬화 실패. curationId={}", changed.mainCurationId(), e);
+        }
+    }
+}
@@ -2,27 +2,60 @@ package com.lovedbug.geulgwi.core.domain.curation;
 
 import lombok.RequiredArgsConstructor;
 import java.util.List;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import com.lovedbug.geulgwi.core.domain.curation.dto.response.CurationItemResponse;
 import com.lovedbug.geulgwi.core.domain.curation.mapper.CurationMapper;
 import com.lovedbug.geulgwi.core.domain.curation.repository.MainCurationRepository;
+import com.lovedbug.geulgwi.external.redis.cache.TwoLevelCache;
 
 @RequiredArgsConstructor
 @Service
 public class CurationCacheService {
 
+    private static final String BOOK_CURATIONS = "bookCurations";
+    private static final String QUOTE_CURATIONS = "quoteCurations";
+
     private final MainCurationRepository mainCurationRepository;
+    private final CacheManager cacheManager;
 
-    @Cacheable(value = "bookCurations", key = "#curationId")
+    @Cacheable(value = BOOK_CURATIONS, key = "#curationId")
     public List<CurationItemResponse> getBookCurationsById(long curationId) {
+        return loadBookCurations(curationId);
+    }
+
+    @Cacheable(value = QUOTE_CURATIONS, key = "#curationId")
+    public List<CurationItemResponse> getQuoteCurationsById(long curationId) {
+        return loadQuoteCurations(curationId);
+    }
+
+    @CachePut(value = BOOK_CURATIONS, key = "#curationId")
+    public List<CurationItemResponse> refreshBookCurations(long curationId) {
+        return loadBookCurations(curationId);
+    }
+
+    @CachePut(value = QUOTE_CURATIONS, key = "#curationId")
+    public List<CurationItemResponse> refreshQuoteCurations(long curationId) {
+        return loadQuoteCurations(curationId);
+    }
+
+    public void evictLocal(long curationId) {
+        for (String cacheName : List.of(BOOK_CURATIONS, QUOTE_CURATIONS)) {
+            if (cacheManager.getCache(cacheName) instanceof TwoLevelCache cache) {
+                cache.evictLocal(curationId);
+            }
+        }
+    }
+
+    private List<CurationItemResponse> loadBookCurations(long curationId) {
         return CurationMapper.toCurationItemDtoListFromBooks(
             mainCurationRepository.findCurationBooksByCurationId(curationId)
         );
     }
 
-    @Cacheable(value = "quoteCurations", key = "#curationId")
-    public List<CurationItemResponse> getQuoteCurationsById(long curationId) {
+    private List<CurationItemResponse> loadQuoteCurations(long curationId) {
         return CurationMapper.toCurationItemDtoListFromQuotes(
             mainCurationRepository.findCurationQuotesByCurationId(curationId)
         );
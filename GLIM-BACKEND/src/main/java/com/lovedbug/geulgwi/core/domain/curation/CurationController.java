@@ -1,23 +1,31 @@
 package com.lovedbug.geulgwi.core.domain.curation;
 
 import lombok.RequiredArgsConstructor;
-import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import com.lovedbug.geulgwi.core.domain.curation.dto.response.CurationItemResponse;
+import com.lovedbug.geulgwi.core.common.http.CachePolicy;
+import com.lovedbug.geulgwi.core.common.http.ConditionalResponses;
+import com.lovedbug.geulgwi.core.common.http.Versioned;
 
 @RestController
 @RequestMapping("/api/v1/curations")
 @RequiredArgsConstructor
 public class CurationController {
 
-    private final CurationService curationService;
+    private final CurationSnapshotService curationSnapshotService;
 
-    @GetMapping("/main")
-    public ResponseEntity<List<CurationItemResponse>> getMainCuration() {
+    @GetMapping(value = "/main", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getMainCuration(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        return ResponseEntity.ok(curationService.getMainCuration());
+        CurationSnapshot snapshot = curationSnapshotService.getMainSnapshot();
+
+        return ConditionalResponses.of(ifNoneMatch, new Versioned<>(snapshot.body(), snapshot.etag()),
+            CachePolicy.MAIN_CURATION);
     }
 }
@@ -0,0 +1,8 @@
+package com.lovedbug.geulgwi.core.domain.curation;
+
+public record CurationSnapshot(
+    byte[] body,
+    String etag,
+    long builtAtMillis
+) {
+}
@@ -0,0 +1,17 @@
+package com.lovedbug.geulgwi.core.domain.curation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CurationSnapshotScheduler {
+
+    private final CurationSnapshotService curationSnapshotService;
+
+    @Scheduled(fixedDelayString = "${curation.snapshot.refresh-interval-millis:10000}")
+    public void refreshMainSnapshot() {
+        curationSnapshotService.refreshIfStale();
+    }
+}
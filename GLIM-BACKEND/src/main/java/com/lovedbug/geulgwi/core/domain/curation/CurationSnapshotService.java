@@ -0,0 +1,82 @@
+package com.lovedbug.geulgwi.core.domain.curation;
+
+import lombok.extern.slf4j.Slf4j;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovedbug.geulgwi.core.common.exception.GeulgwiException;
+import com.lovedbug.geulgwi.core.common.http.ETags;
+import com.lovedbug.geulgwi.core.common.view.ViewCountFlushedEvent;
+import com.lovedbug.geulgwi.core.domain.curation.dto.response.CurationItemResponse;
+
+@Slf4j
+@Service
+public class CurationSnapshotService {
+
+    private final CurationService curationService;
+    private final ObjectMapper objectMapper;
+    private final Duration maxAge;
+
+    private volatile CurationSnapshot snapshot;
+    private volatile boolean stale;
+
+    public CurationSnapshotService(CurationService curationService, ObjectMapper objectMapper,
+                                   @Value("${curation.snapshot.max-age-millis:60000}") long maxAgeMillis) {
+        this.curationService = curationService;
+        this.objectMapper = objectMapper;
+        this.maxAge = Duration.ofMillis(maxAgeMillis);
+    }
+
+    public CurationSnapshot getMainSnapshot() {
+        CurationSnapshot current = snapshot;
+
+        return (current != null) ? current : rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("메인 큐레이션 스냅샷 초기 생성 실패. 스케줄러에서 다시 시도합니다.", e);
+        }
+    }
+
+    public synchronized CurationSnapshot rebuild() {
+        stale = false;
+
+        List<CurationItemResponse> curations = curationService.getMainCuration();
+        byte[] body = serialize(curations);
+
+        CurationSnapshot rebuilt = new CurationSnapshot(body, ETags.of(body), System.currentTimeMillis());
+        snapshot = rebuilt;
+
+        return rebuilt;
+    }
+
+    public void refreshIfStale() {
+        CurationSnapshot current = snapshot;
+
+        if (current == null || stale || System.currentTimeMillis() - current.builtAtMillis() >= maxAge.toMillis()) {
+            rebuild();
+        }
+    }
+
+    @EventListener
+    public void onViewCountFlushed(ViewCountFlushedEvent event) {
+        stale = true;
+    }
+
+    private byte[] serialize(List<CurationItemResponse> curations) {
+        try {
+            return objectMapper.writeValueAsBytes(curations);
+        } catch (JsonProcessingException e) {
+            throw new GeulgwiException("메인 큐레이션 직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.lovedbug.geulgwi.core.domain.curation.event;
+
+public record CurationChangedEvent(
+    Long mainCurationId
+) {
+}
@@ -0,0 +1,7 @@
+package com.lovedbug.geulgwi.core.domain.curation.event;
+
+public record CurationChangedMessage(
+    String origin,
+    Long mainCurationId
+) {
+}
@@ -1,19 +1,46 @@
 package com.lovedbug.geulgwi.core.domain.image;
 
+import com.lovedbug.geulgwi.core.common.concurrent.SingleFlight;
 import com.lovedbug.geulgwi.external.gpt.dto.*;
-import lombok.RequiredArgsConstructor;
+import com.lovedbug.geulgwi.external.resilience.ExternalCallGuard;
+import com.lovedbug.geulgwi.external.resilience.ExternalDownstream;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
 import java.util.Base64;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class ImageGenerateService {
+    private static final Duration PROMPT_TIMEOUT = Duration.ofSeconds(20);
+    private static final Duration IMAGE_TIMEOUT = Duration.ofSeconds(90);
+
     private final WebClient openAiWebClient;
+    private final ExternalCallGuard externalCallGuard;
+    private final SingleFlight<String, String> promptSingleFlight;
+    private final SingleFlight<String, byte[]> imageSingleFlight;
+
+    public ImageGenerateService(WebClient openAiWebClient, ExternalCallGuard externalCallGuard,
+                                MeterRegistry meterRegistry) {
+        this.openAiWebClient = openAiWebClient;
+        this.externalCallGuard = externalCallGuard;
+        this.promptSingleFlight = new SingleFlight<>("openai-prompt", meterRegistry);
+        this.imageSingleFlight = new SingleFlight<>("openai-image", meterRegistry);
+    }
 
     public String createImagePrompt(String userText) {
+        return promptSingleFlight.execute(userText,
+            () -> externalCallGuard.call(ExternalDownstream.OPENAI, () -> requestImagePrompt(userText)));
+    }
+
+    public byte[] generateImageBytes(String imgPrompt) {
+        return imageSingleFlight.execute(imgPrompt,
+            () -> externalCallGuard.call(ExternalDownstream.OPENAI, () -> requestImageBytes(imgPrompt)));
+    }
+
+    private String requestImagePrompt(String userText) {
         ChatCompletionRequest chatCompletionRequest = ChatCompletionRequest.builder()
                 .model("gpt-4.1")
                 .temperature(0.7)
@@ -35,7 +62,7 @@ public class ImageGenerateService {
                 .bodyValue(chatCompletionRequest)
                 .retrieve()
                 .bodyToMono(ChatCompletionResponse.class)
-                .block();
+                .block(PROMPT_TIMEOUT);
 
         if (chatCompletionResponse == null || chatCompletionResponse.getChoices().isEmpty()) {
             throw new IllegalStateException("Chat completion returned no choices");
@@ -43,7 +70,7 @@ public class ImageGenerateService {
         return chatCompletionResponse.getChoices().getFirst().getMessage().getContent().trim();
     }
 
-    public byte[] generateImageBytes(String imgPrompt) {
+    private byte[] requestImageBytes(String imgPrompt) {
 
         ImageGenerationRequest imageGenerationRequest = ImageGenerationRequest.builder()
                 .model("dall-e-3")
@@ -57,7 +84,7 @@ public class ImageGenerateService {
                 .bodyValue(imageGenerationRequest)
                 .retrieve()
                 .bodyToMono(ImageGenerationResponse.class)
-                .block();
+                .block(IMAGE_TIMEOUT);
 
         if (imageGenerationResponse == null || imageGenerationResponse.getData().isEmpty()) {
             throw new IllegalStateException("Image generation returned no data");
@@ -14,8 +14,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -40,6 +38,7 @@ public class MemberLikeQuoteService {
                 .build();
 
             memberLikeQuoteRepository.save(likeQuote);
+            quoteRepository.increaseLikeCount(quoteId);
 
             if (!quote.getMemberId().equals(memberId)) {
                 Member member = memberRepository.findById(quote.getMemberId())
@@ -57,19 +56,9 @@ public class MemberLikeQuoteService {
     @Transactional
     public void unlikeQuote(Long memberId, Long quoteId) {
 
-        memberLikeQuoteRepository.deleteByMemberIdAndQuote_QuoteId(memberId, quoteId);
-    }
-
-    @Transactional(readOnly = true)
-    public boolean isLikedBy(Long memberId, Long quoteId){
-
-        return memberLikeQuoteRepository.existsByMemberIdAndQuote_QuoteId(memberId, quoteId);
-    }
-
-    @Transactional(readOnly = true)
-    public long countLikes(Long quoteId){
-
-        return memberLikeQuoteRepository.countByQuote_QuoteId(quoteId);
+        if (memberLikeQuoteRepository.deleteByMemberIdAndQuoteId(memberId, quoteId) > 0) {
+            quoteRepository.decreaseLikeCount(quoteId);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -77,24 +66,11 @@ public class MemberLikeQuoteService {
 
         List<MemberLikeQuote> likeQuotes = memberLikeQuoteRepository.findAllByMemberIdOrderByCreatedAtDesc(memberId);
 
-        List<Long> quoteIds = likeQuotes.stream()
-            .map(likeQuote -> likeQuote.getQuote().getQuoteId())
-            .toList();
-
-        List<Object[]> likeCountList = memberLikeQuoteRepository.countByQuoteIds(quoteIds);
-
-        Map<Long, Long> likeCountMap = likeCountList.stream()
-            .collect(Collectors.toMap(
-                row -> (Long) row[0],
-                row -> (Long) row[1]
-            ));
-
         return likeQuotes.stream()
             .map(likeQuote -> {
                 Quote quote = likeQuote.getQuote();
-                long likeCount = likeCountMap.getOrDefault(quote.getQuoteId(), 0L);
 
-                return QuoteResponse.toResponseDto(quote, true, likeCount, null);
+                return QuoteResponse.toResponseDto(quote, true, quote.getLikeCount(), null);
             })
             .toList();
     }
@@ -0,0 +1,31 @@
+package com.lovedbug.geulgwi.core.domain.like;
+
+import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteLikeCountReconciler {
+
+    private static final long CHUNK_SIZE = 1_000;
+
+    private final QuoteRepository quoteRepository;
+
+    @Scheduled(cron = "${quote.like-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcileLikeCounts() {
+        long maxQuoteId = quoteRepository.findMaxQuoteId();
+        int corrected = 0;
+
+        for (long fromId = 1; fromId <= maxQuoteId; fromId += CHUNK_SIZE) {
+            corrected += quoteRepository.reconcileLikeCounts(fromId, fromId + CHUNK_SIZE - 1);
+        }
+
+        if (corrected > 0) {
+            log.warn("글귀 좋아요 수 보정 완료 corrected={}", corrected);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.lovedbug.geulgwi.core.domain.like;
+
+import com.lovedbug.geulgwi.core.domain.like.dto.response.QuoteLikeStatus;
+import com.lovedbug.geulgwi.core.domain.like.repository.MemberLikeQuoteRepository;
+import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class QuoteLikeStatusService {
+
+    private final MemberLikeQuoteRepository memberLikeQuoteRepository;
+
+    @Transactional(readOnly = true)
+    public Map<Long, QuoteLikeStatus> getLikeStatuses(Collection<Quote> quotes, Long memberId) {
+
+        if (quotes.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> likedQuoteIds = findLikedQuoteIds(quotes, memberId);
+
+        Map<Long, QuoteLikeStatus> likeStatuses = new HashMap<>(quotes.size());
+
+        for (Quote quote : quotes) {
+            likeStatuses.put(quote.getQuoteId(),
+                new QuoteLikeStatus(quote.getLikeCount(), likedQuoteIds.contains(quote.getQuoteId())));
+        }
+
+        return likeStatuses;
+    }
+
+    public static QuoteLikeStatus statusOf(Map<Long, QuoteLikeStatus> likeStatuses, Long quoteId) {
+        return likeStatuses.getOrDefault(quoteId, QuoteLikeStatus.NONE);
+    }
+
+    private Set<Long> findLikedQuoteIds(Collection<Quote> quotes, Long memberId) {
+
+        if (memberId == null) {
+            return Set.of();
+        }
+
+        List<Long> quoteIds = quotes.stream()
+            .map(Quote::getQuoteId)
+            .toList();
+
+        return new HashSet<>(memberLikeQuoteRepository.findLikedQuoteIds(memberId, quoteIds));
+    }
+}
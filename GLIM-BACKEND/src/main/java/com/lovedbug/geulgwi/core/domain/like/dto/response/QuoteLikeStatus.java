@@ -0,0 +1,9 @@
+package com.lovedbug.geulgwi.core.domain.like.dto.response;
+
+public record QuoteLikeStatus(
+    long likeCount,
+    boolean liked
+) {
+
+    public static final QuoteLikeStatus NONE = new QuoteLikeStatus(0L, false);
+}
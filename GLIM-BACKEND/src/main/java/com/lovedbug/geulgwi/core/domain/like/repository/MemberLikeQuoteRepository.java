@@ -1,23 +1,24 @@
 package com.lovedbug.geulgwi.core.domain.like.repository;
 
 import com.lovedbug.geulgwi.core.domain.like.entity.MemberLikeQuote;
-import feign.Param;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface MemberLikeQuoteRepository extends JpaRepository<MemberLikeQuote, Long> {
 
     boolean existsByMemberIdAndQuote_QuoteId(Long memberId, Long quoteId);
 
-    void deleteByMemberIdAndQuote_QuoteId(Long memberId, Long quoteId);
+    @Modifying
+    @Query("DELETE FROM MemberLikeQuote mlq WHERE mlq.memberId = :memberId AND mlq.quote.quoteId = :quoteId")
+    int deleteByMemberIdAndQuoteId(@Param("memberId") Long memberId, @Param("quoteId") Long quoteId);
 
-    long countByQuote_QuoteId(Long quoteId);
-
-    @Query("SELECT q.quoteId, COUNT(mlq) FROM MemberLikeQuote mlq JOIN mlq.quote q " +
-        "WHERE q.quoteId IN :quoteIds GROUP BY q.quoteId")
-    List<Object[]> countByQuoteIds(@Param("quoteIds")List<Long> quoteIds);
+    @Query("SELECT mlq.quote.quoteId FROM MemberLikeQuote mlq " +
+        "WHERE mlq.memberId = :memberId AND mlq.quote.quoteId IN :quoteIds")
+    List<Long> findLikedQuoteIds(@Param("memberId") Long memberId, @Param("quoteIds") List<Long> quoteIds);
 
     @EntityGraph(attributePaths = {"quote"})
     List<MemberLikeQuote> findAllByMemberIdOrderByCreatedAtDesc(Long memberId);
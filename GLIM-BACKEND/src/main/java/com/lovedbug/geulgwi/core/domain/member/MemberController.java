@@ -1,5 +1,7 @@
 package com.lovedbug.geulgwi.core.domain.member;
 
+import com.lovedbug.geulgwi.core.common.http.CachePolicy;
+import com.lovedbug.geulgwi.core.common.http.ConditionalResponses;
 import com.lovedbug.geulgwi.core.domain.member.dto.response.MemberResponse;
 import com.lovedbug.geulgwi.core.domain.member.dto.request.SignUpRequest;
 import com.lovedbug.geulgwi.core.domain.member.dto.response.SignUpResponse;
@@ -9,6 +11,7 @@ import com.lovedbug.geulgwi.core.security.dto.AuthenticatedUser;
 import com.lovedbug.geulgwi.external.fcm.dto.request.FcmTokenInActiveRequestDto;
 import com.lovedbug.geulgwi.external.fcm.service.FcmTokenService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -40,9 +43,10 @@ public class MemberController {
     }
 
     @GetMapping("/{memberId}")
-    public ResponseEntity<MemberResponse> getMemberById(@PathVariable("memberId") Long memberId){
+    public ResponseEntity<MemberResponse> getMemberById(@PathVariable("memberId") Long memberId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
 
-        return ResponseEntity.ok(memberService.findByMemberId(memberId));
+        return ConditionalResponses.of(ifNoneMatch, memberService.findByMemberId(memberId), CachePolicy.MEMBER_DETAIL);
     }
 
     @PutMapping("/me")
@@ -20,6 +20,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     List<Member> findAllByStatus(MemberStatus status);
 
+    @Query("SELECT m.status FROM Member m WHERE m.memberId = :memberId")
+    Optional<MemberStatus> findStatusByMemberId(@Param("memberId") Long memberId);
+
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
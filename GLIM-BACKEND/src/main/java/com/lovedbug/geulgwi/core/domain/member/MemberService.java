@@ -1,16 +1,19 @@
 package com.lovedbug.geulgwi.core.domain.member;
 
+import com.lovedbug.geulgwi.core.common.http.Versioned;
 import com.lovedbug.geulgwi.core.domain.member.constant.MemberErrorCode;
 import com.lovedbug.geulgwi.core.domain.member.dto.response.MemberResponse;
 import com.lovedbug.geulgwi.core.domain.member.dto.request.SignUpRequest;
 import com.lovedbug.geulgwi.core.domain.member.dto.response.SignUpResponse;
 import com.lovedbug.geulgwi.core.domain.member.dto.request.UpdateRequest;
+import com.lovedbug.geulgwi.core.domain.member.event.MemberRegisteredEvent;
+import com.lovedbug.geulgwi.core.domain.member.event.MemberStatusChangedEvent;
 import com.lovedbug.geulgwi.core.domain.member.exception.MemberException;
 import com.lovedbug.geulgwi.core.domain.member.mapper.MemberMapper;
-import com.lovedbug.geulgwi.external.email.EmailSender;
 import com.lovedbug.geulgwi.external.image.ImageMetaData;
 import com.lovedbug.geulgwi.external.image.handler.ImageHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,8 +27,8 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
-    private final EmailSender emailSender;
     private final ImageHandler imageHandler;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SignUpResponse registerMember(SignUpRequest signUpRequest, MultipartFile profileImage){
@@ -51,7 +54,8 @@ public class MemberService {
 
         memberRepository.save(reigisterMember);
 
-        emailSender.sendWelcomeEmail(reigisterMember.getEmail(), reigisterMember.getNickname());
+        eventPublisher.publishEvent(new MemberRegisteredEvent(
+            reigisterMember.getMemberId(), reigisterMember.getEmail(), reigisterMember.getNickname()));
 
         return SignUpResponse.builder()
             .email(signUpRequest.getEmail())
@@ -75,12 +79,12 @@ public class MemberService {
 
     }
 
-    public MemberResponse findByMemberId(Long memberId){
+    public Versioned<MemberResponse> findByMemberId(Long memberId){
 
         Member member = memberRepository.findById(memberId)
             .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND, "memberId = " + memberId));
 
-        return MemberMapper.toMemberDto(member);
+        return Versioned.of(MemberMapper.toMemberDto(member), member.getMemberId(), member.getUpdatedAt());
     }
 
     @Transactional
@@ -115,6 +119,8 @@ public class MemberService {
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND, "memberId = " + memberId));
 
         member.changeStatus(MemberStatus.INACTIVE);
+        eventPublisher.publishEvent(new MemberStatusChangedEvent(memberId, MemberStatus.INACTIVE));
+
         return MemberMapper.toMemberDto(member);
     }
 }
@@ -0,0 +1,71 @@
+package com.lovedbug.geulgwi.core.domain.member;
+
+import lombok.extern.slf4j.Slf4j;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+import com.lovedbug.geulgwi.core.domain.member.constant.MemberStatus;
+import com.lovedbug.geulgwi.core.domain.member.event.MemberStatusChangedEvent;
+
+@Slf4j
+@Component
+public class MemberStatusCache implements MessageListener {
+
+    private static final long MAX_SIZE = 100_000;
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, MemberStatus> statuses;
+
+    public MemberStatusCache(MemberRepository memberRepository, StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             @Value("${auth.member-status-ttl-seconds:60}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.statuses = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKey.MEMBER_STATUS_CHANNEL.getKey()));
+    }
+
+    public MemberStatus getStatus(Long memberId) {
+
+        return statuses.get(memberId, id -> memberRepository.findStatusByMemberId(id).orElse(null));
+    }
+
+    public boolean isActive(Long memberId) {
+
+        return getStatus(memberId) == MemberStatus.ACTIVE;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberStatusChanged(MemberStatusChangedEvent event) {
+        statuses.invalidate(event.memberId());
+
+        stringRedisTemplate.convertAndSend(RedisKey.MEMBER_STATUS_CHANNEL.getKey(), String.valueOf(event.memberId()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            statuses.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("회원 상태 캐시 무효화 메시지 형식 오류. body={}", body);
+        }
+    }
+}
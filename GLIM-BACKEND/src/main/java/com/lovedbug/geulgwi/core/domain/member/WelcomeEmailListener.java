@@ -0,0 +1,20 @@
+package com.lovedbug.geulgwi.core.domain.member;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.lovedbug.geulgwi.core.domain.member.event.MemberRegisteredEvent;
+import com.lovedbug.geulgwi.external.email.EmailSender;
+
+@Component
+@RequiredArgsConstructor
+public class WelcomeEmailListener {
+
+    private final EmailSender emailSender;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberRegistered(MemberRegisteredEvent event) {
+        emailSender.sendWelcomeEmail(event.email(), event.nickname());
+    }
+}
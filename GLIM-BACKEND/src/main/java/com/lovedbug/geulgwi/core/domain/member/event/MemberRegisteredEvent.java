@@ -0,0 +1,8 @@
+package com.lovedbug.geulgwi.core.domain.member.event;
+
+public record MemberRegisteredEvent(
+    Long memberId,
+    String email,
+    String nickname
+) {
+}
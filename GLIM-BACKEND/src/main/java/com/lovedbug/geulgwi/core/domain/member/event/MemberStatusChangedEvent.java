@@ -0,0 +1,9 @@
+package com.lovedbug.geulgwi.core.domain.member.event;
+
+import com.lovedbug.geulgwi.core.domain.member.constant.MemberStatus;
+
+public record MemberStatusChangedEvent(
+    Long memberId,
+    MemberStatus status
+) {
+}
@@ -1,5 +1,9 @@
 package com.lovedbug.geulgwi.core.domain.quote;
 
+import com.lovedbug.geulgwi.core.common.http.CachePolicy;
+import com.lovedbug.geulgwi.core.common.http.ConditionalResponses;
+import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteChosungResponse;
+import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteFeedResponse;
 import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteSearchResponse;
 import com.lovedbug.geulgwi.core.security.annotation.CurrentUser;
 import com.lovedbug.geulgwi.core.security.dto.AuthenticatedUser;
@@ -8,6 +12,7 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,16 +25,27 @@ import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteWithBookResponse
 @RequiredArgsConstructor
 public class QuoteController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final QuoteService quoteService;
 
     @GetMapping("")
     public ResponseEntity<List<QuoteWithBookResponse>> getQuotes(
         @CurrentUser AuthenticatedUser user,
+        @RequestParam(value = "cursor", required = false) String cursor,
         @PageableDefault(size = 10, sort = "views", direction = Sort.Direction.DESC) Pageable pageable) {
 
         Long memberId = (user != null) ? user.getMemberId() : null;
 
-        return ResponseEntity.ok(quoteService.getQuotesByRandom(pageable, memberId));
+        QuoteFeedResponse feed = quoteService.getQuotesByRandom(cursor, pageable, memberId);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+
+        if (feed.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, feed.nextCursor());
+        }
+
+        return response.body(feed.quotes());
     }
 
     @GetMapping("/me")
@@ -51,11 +67,13 @@ public class QuoteController {
 
     @GetMapping("/{id}")
     public ResponseEntity<QuoteWithBookResponse> getQuoteById(@CurrentUser AuthenticatedUser user,
-                                                              @PathVariable(value = "id") Long quoteId) {
+                                                              @PathVariable(value = "id") Long quoteId,
+                                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         Long memberId = (user != null) ? user.getMemberId() : null;
 
-        return ResponseEntity.ok(quoteService.getPublicQuoteById(quoteId, memberId));
+        return ConditionalResponses.of(ifNoneMatch, quoteService.getPublicQuoteById(quoteId, memberId),
+            CachePolicy.QUOTE_DETAIL);
     }
 
     @PostMapping("")
@@ -87,4 +105,12 @@ public class QuoteController {
 
         return ResponseEntity.ok(quoteService.searchQuotesByContent(memberId, content, pageable));
     }
+
+    @GetMapping("/by-chosung")
+    public ResponseEntity<List<QuoteChosungResponse>> searchQuotesByChosung(
+        @RequestParam("chosung") String chosung,
+        @RequestParam(value = "limit", defaultValue = "20") int limit) {
+
+        return ResponseEntity.ok(quoteService.searchQuotesByChosung(chosung, limit));
+    }
 }
@@ -0,0 +1,88 @@
+package com.lovedbug.geulgwi.core.domain.quote;
+
+import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+import com.lovedbug.geulgwi.core.common.exception.GeulgwiException;
+import com.lovedbug.geulgwi.core.domain.like.dto.response.QuoteLikeStatus;
+import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteWithBookResponse;
+import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
+import com.lovedbug.geulgwi.core.domain.quote.mapper.QuoteMapper;
+import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
+
+@Component
+@RequiredArgsConstructor
+public class QuoteDisplayCache {
+
+    private static final Duration DISPLAY_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final QuoteRepository quoteRepository;
+
+    public Map<Long, QuoteWithBookResponse> getAll(List<Long> quoteIds) {
+        Map<Long, QuoteWithBookResponse> displays = new HashMap<>(quoteIds.size());
+
+        if (quoteIds.isEmpty()) {
+            return displays;
+        }
+
+        List<String> cached = redisTemplate.opsForValue().multiGet(quoteIds.stream().map(this::displayKey).toList());
+        List<Long> missedIds = new ArrayList<>();
+
+        for (int i = 0; i < quoteIds.size(); i++) {
+            String json = (cached != null) ? cached.get(i) : null;
+
+            if (json == null) {
+                missedIds.add(quoteIds.get(i));
+                continue;
+            }
+
+            displays.put(quoteIds.get(i), deserialize(json));
+        }
+
+        if (!missedIds.isEmpty()) {
+            for (Quote quote : quoteRepository.findPublicQuotesWithBookByIds(missedIds)) {
+                QuoteWithBookResponse display = QuoteMapper.toQuoteWithBookResponse(quote,
+                    new QuoteLikeStatus(quote.getLikeCount(), false));
+
+                redisTemplate.opsForValue().set(displayKey(quote.getQuoteId()), serialize(display), DISPLAY_TTL);
+                displays.put(quote.getQuoteId(), display);
+            }
+        }
+
+        return displays;
+    }
+
+    public void evict(Long quoteId) {
+        redisTemplate.delete(displayKey(quoteId));
+    }
+
+    private String displayKey(Long quoteId) {
+        return RedisKey.QUOTE_DISPLAY.getKey() + quoteId;
+    }
+
+    private String serialize(QuoteWithBookResponse display) {
+        try {
+            return objectMapper.writeValueAsString(display);
+        } catch (JsonProcessingException e) {
+            throw new GeulgwiException("글귀 Redis 에서 직렬화 실패", e);
+        }
+    }
+
+    private QuoteWithBookResponse deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, QuoteWithBookResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new GeulgwiException("글귀 Redis 에서 역직렬화 실패", e);
+        }
+    }
+}
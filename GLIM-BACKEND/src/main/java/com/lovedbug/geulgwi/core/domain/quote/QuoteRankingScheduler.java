@@ -0,0 +1,17 @@
+package com.lovedbug.geulgwi.core.domain.quote;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class QuoteRankingScheduler {
+
+    private final QuoteRankingService quoteRankingService;
+
+    @Scheduled(fixedDelayString = "${ranking.window-refresh-interval-millis:60000}")
+    public void refreshTrendingQuotes() {
+        quoteRankingService.refreshTrendingWindows();
+    }
+}
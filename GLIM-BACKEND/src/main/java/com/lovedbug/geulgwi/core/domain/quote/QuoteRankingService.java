@@ -1,18 +1,18 @@
 package com.lovedbug.geulgwi.core.domain.quote;
 
 import lombok.RequiredArgsConstructor;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
-import org.springframework.data.redis.core.RedisTemplate;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lovedbug.geulgwi.core.common.constant.RedisKey;
-import com.lovedbug.geulgwi.core.common.exception.GeulgwiException;
+import com.lovedbug.geulgwi.core.common.ranking.TimeWindow;
+import com.lovedbug.geulgwi.core.common.ranking.TrendingRankingStore;
+import com.lovedbug.geulgwi.core.common.view.ViewCountFlushedEvent;
+import com.lovedbug.geulgwi.core.common.view.ViewTarget;
 import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteWithBookResponse;
-import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
-import com.lovedbug.geulgwi.core.domain.quote.mapper.QuoteMapper;
 
 @RequiredArgsConstructor
 @Service
@@ -20,47 +20,46 @@ public class QuoteRankingService {
 
     private static final double VIEW_INCREMENT_SCORE = 1.0;
     private static final int TOP_RANKING_LIMIT = 10;
+    private static final int CANDIDATE_MULTIPLIER = 2;
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final TrendingRankingStore trendingRankingStore;
+    private final QuoteDisplayCache quoteDisplayCache;
 
     public List<QuoteWithBookResponse> getPopularQuotesWithBook() {
-        return Optional.ofNullable(redisTemplate.opsForZSet()
-                .reverseRange(RedisKey.POPULAR_QUOTES.getKey(), 0, TOP_RANKING_LIMIT - 1))
-            .orElse(Collections.emptySet())
-            .stream()
-            .map(json -> {
-                try {
-                    return objectMapper.readValue(json, QuoteWithBookResponse.class);
-                } catch (JsonProcessingException e) {
-                    throw new GeulgwiException("글귀 Redis 에서 역직렬화 실패", e);
-                }
-            })
-            .toList();
+        return getTrendingQuotes(TimeWindow.DAY, TOP_RANKING_LIMIT);
     }
 
-    public void updateQuoteRanking(Quote quote) {
-        QuoteWithBookResponse quoteWithBookResponse = QuoteMapper.toQuoteWithBookResponse(quote);
+    public List<QuoteWithBookResponse> getTrendingQuotes(TimeWindow window, int limit) {
+        List<Long> quoteIds = trendingRankingStore
+            .top(RedisKey.TRENDING_QUOTES.getKey(), window, limit * CANDIDATE_MULTIPLIER)
+            .stream()
+            .map(Long::valueOf)
+            .toList();
 
-        try {
-            String quoteWithBookStr = objectMapper.writeValueAsString(quoteWithBookResponse);
-            Double score = calculateScore(quoteWithBookStr, quote);
+        Map<Long, QuoteWithBookResponse> displays = quoteDisplayCache.getAll(quoteIds);
 
-            redisTemplate.opsForZSet().incrementScore(RedisKey.POPULAR_QUOTES.getKey(), quoteWithBookStr, score);
+        return quoteIds.stream()
+            .map(displays::get)
+            .filter(Objects::nonNull)
+            .limit(limit)
+            .toList();
+    }
 
-        } catch (JsonProcessingException e) {
-            throw new GeulgwiException("글귀 Redis 에서 직렬화 실패", e);
+    public void refreshTrendingWindows() {
+        for (TimeWindow window : TimeWindow.values()) {
+            trendingRankingStore.rebuildWindow(RedisKey.TRENDING_QUOTES.getKey(), window);
         }
     }
 
-    private Double calculateScore(String quoteWithBookStr, Quote quote) {
-        Double currentScore = redisTemplate.opsForZSet().score(RedisKey.POPULAR_QUOTES.getKey(), quoteWithBookStr);
-        Double score = VIEW_INCREMENT_SCORE;
-
-        if (currentScore != null) {
-            score *= quote.getViews();
+    @EventListener
+    public void onViewCountFlushed(ViewCountFlushedEvent event) {
+        if (event.target() != ViewTarget.QUOTE) {
+            return;
         }
 
-        return score;
+        Map<String, Double> scores = new HashMap<>(event.deltas().size());
+        event.deltas().forEach((quoteId, delta) -> scores.put(String.valueOf(quoteId), VIEW_INCREMENT_SCORE * delta));
+
+        trendingRankingStore.incrementAll(RedisKey.TRENDING_QUOTES.getKey(), scores);
     }
 }
@@ -1,9 +1,12 @@
 package com.lovedbug.geulgwi.core.domain.quote;
 
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,20 +15,32 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import com.lovedbug.geulgwi.core.common.exception.GeulgwiException;
+import com.lovedbug.geulgwi.core.common.http.Versioned;
+import com.lovedbug.geulgwi.core.common.view.ViewCountBuffer;
+import com.lovedbug.geulgwi.core.common.view.ViewTarget;
 import com.lovedbug.geulgwi.core.domain.book.BookRepository;
 import com.lovedbug.geulgwi.core.domain.book.dto.BookCreateRequest;
 import com.lovedbug.geulgwi.core.domain.book.entity.Book;
-import com.lovedbug.geulgwi.core.domain.like.MemberLikeQuoteService;
+import com.lovedbug.geulgwi.core.domain.book.event.BookSavedEvent;
+import com.lovedbug.geulgwi.core.domain.like.QuoteLikeStatusService;
+import com.lovedbug.geulgwi.core.domain.like.dto.response.QuoteLikeStatus;
 import com.lovedbug.geulgwi.core.domain.quote.constant.Visibility;
 import com.lovedbug.geulgwi.core.domain.quote.dto.request.QuoteCreateRequest;
+import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteChosungResponse;
+import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteFeedResponse;
 import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteResponse;
 import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteSearchResponse;
 import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteWithBookResponse;
 import com.lovedbug.geulgwi.core.domain.quote.entity.MemberQuote;
 import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
+import com.lovedbug.geulgwi.core.domain.quote.event.QuoteSavedEvent;
+import com.lovedbug.geulgwi.core.domain.quote.feed.QuoteFeedService;
+import com.lovedbug.geulgwi.core.domain.quote.feed.QuoteFeedService.QuoteFeedSlice;
 import com.lovedbug.geulgwi.core.domain.quote.mapper.QuoteMapper;
 import com.lovedbug.geulgwi.core.domain.quote.repository.MemberQuoteRepository;
 import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
+import com.lovedbug.geulgwi.core.domain.quote.search.QuoteChosungIndex;
+import com.lovedbug.geulgwi.core.domain.quote.search.QuoteSearchEngine;
 import com.lovedbug.geulgwi.core.domain.search.SearchKeywordService;
 import com.lovedbug.geulgwi.external.image.ImageMetaData;
 import com.lovedbug.geulgwi.external.image.handler.ImageHandler;
@@ -35,76 +50,78 @@ import com.lovedbug.geulgwi.external.image.handler.ImageHandler;
 @RequiredArgsConstructor
 public class QuoteService {
 
-    private final QuoteRankingService quoteRankingService;
-    private final MemberLikeQuoteService memberLikeQuoteService;
+    private static final int MAX_CHOSUNG_LIMIT = 50;
+
+    private final QuoteFeedService quoteFeedService;
+    private final QuoteLikeStatusService quoteLikeStatusService;
     private final SearchKeywordService searchKeywordService;
 
     private final MemberQuoteRepository memberQuoteRepository;
     private final QuoteRepository quoteRepository;
+    private final QuoteSearchEngine quoteSearchEngine;
+    private final QuoteChosungIndex quoteChosungIndex;
     private final BookRepository bookRepository;
 
     private final ImageHandler imageHandler;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<QuoteWithBookResponse> getQuotesByRandom(Pageable pageable, Long memberId) {
-        List<Quote> quotes = quoteRepository.findPublicQuotesByRandom(pageable);
+    public QuoteFeedResponse getQuotesByRandom(String cursor, Pageable pageable, Long memberId) {
+        QuoteFeedSlice feedSlice = quoteFeedService.getFeedSlice(cursor, pageable.getOffset(), pageable.getPageSize());
 
-        return quotes.stream()
-            .map(quote -> {
-                boolean isLiked = (memberId != null) && memberLikeQuoteService.isLikedBy(memberId, quote.getQuoteId());
-                long likeCount = memberLikeQuoteService.countLikes(quote.getQuoteId());
-
-                return QuoteWithBookResponse.builder()
-                    .quoteId(quote.getQuoteId())
-                    .quoteImageName(quote.getImageName())
-                    .page(quote.getPage())
-                    .bookId(quote.getBook().getBookId())
-                    .quoteViews(quote.getViews())
-                    .bookTitle(quote.getBook().getTitle())
-                    .content(quote.getContent())
-                    .author(quote.getBook().getAuthor())
-                    .publisher(quote.getBook().getPublisher())
-                    .bookCoverUrl(quote.getBook().getCoverUrl())
-                    .isLiked(isLiked)
-                    .likeCount(likeCount)
-                    .build();
-            })
-            .collect(Collectors.toList());
+        if (feedSlice.quoteIds().isEmpty()) {
+            return new QuoteFeedResponse(List.of(), feedSlice.nextCursor());
+        }
+
+        Map<Long, Quote> quotesById = quoteRepository.findPublicQuotesWithBookByIds(feedSlice.quoteIds()).stream()
+            .collect(Collectors.toMap(Quote::getQuoteId, Function.identity()));
+
+        Map<Long, QuoteLikeStatus> likeStatuses = quoteLikeStatusService.getLikeStatuses(quotesById.values(), memberId);
+
+        List<QuoteWithBookResponse> quotes = feedSlice.quoteIds().stream()
+            .map(quotesById::get)
+            .filter(Objects::nonNull)
+            .map(quote -> QuoteMapper.toQuoteWithBookResponse(quote,
+                QuoteLikeStatusService.statusOf(likeStatuses, quote.getQuoteId())))
+            .toList();
+
+        return new QuoteFeedResponse(quotes, feedSlice.nextCursor());
     }
 
     public List<QuoteResponse> getPublicQuotesByIsbn(String isbn, Long memberId) {
 
         List<Quote> quotes = quoteRepository.findAllByBookIsbnAndVisibility(isbn, "PUBLIC");
 
+        Map<Long, QuoteLikeStatus> likeStatuses = quoteLikeStatusService.getLikeStatuses(quotes, memberId);
+
         return quotes.stream()
             .map(quote -> {
-                boolean isLiked = (memberId != null) && memberLikeQuoteService.isLikedBy(memberId, quote.getQuoteId());
-                long likeCount = memberLikeQuoteService.countLikes(quote.getQuoteId());
+                QuoteLikeStatus likeStatus = QuoteLikeStatusService.statusOf(likeStatuses, quote.getQuoteId());
 
-                return QuoteResponse.toResponseDto(quote, isLiked, likeCount);
+                return QuoteResponse.toResponseDto(quote, likeStatus.liked(), likeStatus.likeCount());
             })
             .collect(Collectors.toList());
     }
 
-    public QuoteWithBookResponse getPublicQuoteById(Long quoteId, Long memberId) {
+    public Versioned<QuoteWithBookResponse> getPublicQuoteById(Long quoteId, Long memberId) {
         Quote quote = quoteRepository.findByQuoteIdAndVisibility(quoteId, Visibility.PUBLIC.name())
             .orElseThrow(() -> new GeulgwiException("없는 글귀 입니다. id = " + quoteId));
 
-        return QuoteMapper.toQuoteWithBookResponse(quote, memberId);
+        QuoteLikeStatus likeStatus = QuoteLikeStatusService.statusOf(
+            quoteLikeStatusService.getLikeStatuses(List.of(quote), memberId), quoteId);
+
+        return Versioned.of(QuoteMapper.toQuoteWithBookResponse(quote, likeStatus), quote.getQuoteId(),
+            quote.getUpdatedAt(), quote.getViews(), quote.getBook().getUpdatedAt(), likeStatus);
     }
 
-    @Transactional
     public void increaseViewCount(Long quoteId) {
-        Quote quote = quoteRepository.findById(quoteId)
-            .orElseThrow(() -> new EntityNotFoundException("없는 글귀 id 입니다. 글귀 id = " + quoteId));
-
-        quote.increaseViewCount();
-        quoteRankingService.updateQuoteRanking(quote);
+        viewCountBuffer.increase(ViewTarget.QUOTE, quoteId);
     }
 
     @Transactional
     public void createQuote(QuoteCreateRequest quoteData, MultipartFile quoteImage) {
         Book book = bookRepository.findBookByIsbn(quoteData.getIsbn())
-            .orElseGet(() -> bookRepository.save(BookCreateRequest.toEntity(quoteData.getBookCreateData())));
+            .orElseGet(() -> saveBook(quoteData));
 
         ImageMetaData imageMetaData = imageHandler.saveImage(quoteImage);
 
@@ -116,15 +133,36 @@ public class QuoteService {
             .build();
 
         memberQuoteRepository.save(memberQuote);
+
+        if (Visibility.PUBLIC.name().equals(savedQuote.getVisibility())) {
+            quoteFeedService.appendToPool(savedQuote.getQuoteId());
+        }
+
+        eventPublisher.publishEvent(new QuoteSavedEvent(savedQuote.getQuoteId(), savedQuote.getContent(),
+            savedQuote.getBookTitle(), savedQuote.getVisibility()));
+    }
+
+    private Book saveBook(QuoteCreateRequest quoteData) {
+        Book savedBook = bookRepository.save(BookCreateRequest.toEntity(quoteData.getBookCreateData()));
+
+        eventPublisher.publishEvent(new BookSavedEvent(savedBook.getBookId(), savedBook.getTitle(),
+            savedBook.getAuthor(), savedBook.getCoverUrl()));
+
+        return savedBook;
     }
 
     public QuoteSearchResponse searchQuotesByContent(Long memberId, String content, Pageable pageable) {
-        Page<Quote> quotes = quoteRepository.findByContentContainingAndVisibility(
-            content, Visibility.PUBLIC.name(), pageable);
+        Page<Quote> quotes = quoteSearchEngine.searchPublic(content, pageable);
 
         searchKeywordService.increaseKeywordScore(content);
 
-        return QuoteMapper.toQuoteSearchResponse(quotes, memberId);
+        Map<Long, QuoteLikeStatus> likeStatuses = quoteLikeStatusService.getLikeStatuses(quotes.getContent(), memberId);
+
+        return QuoteMapper.toQuoteSearchResponse(quotes, likeStatuses);
+    }
+
+    public List<QuoteChosungResponse> searchQuotesByChosung(String chosung, int limit) {
+        return quoteChosungIndex.search(chosung, Math.clamp(limit, 1, MAX_CHOSUNG_LIMIT));
     }
 
     public List<QuoteWithBookResponse> getPopularQuotesWithBook() {
@@ -141,13 +179,15 @@ public class QuoteService {
 
         List<MemberQuote> memberQuotes = memberQuoteRepository.findAllByMemberId(memberId);
 
+        Map<Long, QuoteLikeStatus> likeStatuses = quoteLikeStatusService.getLikeStatuses(
+            memberQuotes.stream().map(MemberQuote::getQuote).toList(), memberId);
+
         return memberQuotes.stream()
             .map(memberQuote -> {
                 Quote quote = memberQuote.getQuote();
-                boolean isLiked = (memberId != null) && memberLikeQuoteService.isLikedBy(memberId, quote.getQuoteId());
-                long likeCount = memberLikeQuoteService.countLikes(quote.getQuoteId());
+                QuoteLikeStatus likeStatus = QuoteLikeStatusService.statusOf(likeStatuses, quote.getQuoteId());
 
-                return QuoteResponse.toResponseDto(quote, isLiked, likeCount, memberQuote.getCreatedAt());
+                return QuoteResponse.toResponseDto(quote, likeStatus.liked(), likeStatus.likeCount(), memberQuote.getCreatedAt());
             })
             .toList();
     }
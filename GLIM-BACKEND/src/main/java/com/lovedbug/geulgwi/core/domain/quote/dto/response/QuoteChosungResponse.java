@@ -0,0 +1,9 @@
+package com.lovedbug.geulgwi.core.domain.quote.dto.response;
+
+public record QuoteChosungResponse(
+
+    Long quoteId,
+    String content,
+    String bookTitle
+) {
+}
@@ -0,0 +1,9 @@
+package com.lovedbug.geulgwi.core.domain.quote.dto.response;
+
+import java.util.List;
+
+public record QuoteFeedResponse(
+    List<QuoteWithBookResponse> quotes,
+    String nextCursor
+) {
+}
@@ -1,10 +1,14 @@
 package com.lovedbug.geulgwi.core.domain.quote.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class QuoteWithBookResponse {
 
     private Long quoteId;
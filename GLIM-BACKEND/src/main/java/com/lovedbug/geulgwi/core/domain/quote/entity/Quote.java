@@ -45,6 +45,10 @@ public class Quote extends BaseTimeEntity {
     @Builder.Default
     private Integer page = 0;
 
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Long likeCount = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "book_id",  nullable = false, updatable = false)
     private Book book;
@@ -54,9 +58,5 @@ public class Quote extends BaseTimeEntity {
 
     @Column(nullable = false)
     private Long memberId;
-
-    public void increaseViewCount() {
-        this.views += 1;
-    }
 }
 
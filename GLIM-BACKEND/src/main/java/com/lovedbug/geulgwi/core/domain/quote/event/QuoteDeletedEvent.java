@@ -0,0 +1,6 @@
+package com.lovedbug.geulgwi.core.domain.quote.event;
+
+public record QuoteDeletedEvent(
+    Long quoteId
+) {
+}
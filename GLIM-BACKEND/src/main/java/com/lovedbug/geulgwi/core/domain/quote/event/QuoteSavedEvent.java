@@ -0,0 +1,9 @@
+package com.lovedbug.geulgwi.core.domain.quote.event;
+
+public record QuoteSavedEvent(
+    Long quoteId,
+    String content,
+    String bookTitle,
+    String visibility
+) {
+}
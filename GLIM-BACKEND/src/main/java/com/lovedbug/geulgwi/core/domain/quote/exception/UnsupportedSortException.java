@@ -0,0 +1,10 @@
+package com.lovedbug.geulgwi.core.domain.quote.exception;
+
+import com.lovedbug.geulgwi.core.common.exception.GeulgwiException;
+
+public class UnsupportedSortException extends GeulgwiException {
+
+    public UnsupportedSortException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.lovedbug.geulgwi.core.domain.quote.feed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class QuoteFeedScheduler {
+
+    private final QuoteFeedService quoteFeedService;
+
+    @Scheduled(
+        fixedDelayString = "${quote.feed.reshuffle-interval-millis:1800000}",
+        initialDelayString = "${quote.feed.reshuffle-interval-millis:1800000}")
+    public void reshuffleQuoteFeed() {
+        quoteFeedService.rebuildPool();
+    }
+}
@@ -0,0 +1,170 @@
+package com.lovedbug.geulgwi.core.domain.quote.feed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuoteFeedService {
+
+    private static final int PUSH_CHUNK_SIZE = 1_000;
+    private static final Duration POOL_TTL = Duration.ofHours(2);
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+    private static final String CURSOR_DELIMITER = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QuoteRepository quoteRepository;
+
+    public QuoteFeedSlice getFeedSlice(String cursor, long startOffset, int size) {
+        FeedPosition position = resolvePosition(cursor, startOffset);
+
+        if (position == null) {
+            return QuoteFeedSlice.empty();
+        }
+
+        String poolKey = poolKey(position.version());
+        List<Long> quoteIds = Optional.ofNullable(redisTemplate.opsForList()
+                .range(poolKey, position.offset(), position.offset() + size - 1))
+            .orElse(Collections.emptyList())
+            .stream()
+            .map(Long::valueOf)
+            .toList();
+
+        long nextOffset = position.offset() + quoteIds.size();
+        Long poolSize = redisTemplate.opsForList().size(poolKey);
+        String nextCursor = (poolSize != null && nextOffset < poolSize)
+            ? encodeCursor(new FeedPosition(position.version(), nextOffset))
+            : null;
+
+        return new QuoteFeedSlice(quoteIds, nextCursor);
+    }
+
+    public String rebuildPool() {
+        Boolean locked = redisTemplate.opsForValue()
+            .setIfAbsent(RedisKey.QUOTE_FEED_LOCK.getKey(), "1", LOCK_TTL);
+
+        if (!Boolean.TRUE.equals(locked)) {
+            return redisTemplate.opsForValue().get(RedisKey.QUOTE_FEED_VERSION.getKey());
+        }
+
+        try {
+            List<Long> quoteIds = new ArrayList<>(quoteRepository.findPublicQuoteIds());
+
+            if (quoteIds.isEmpty()) {
+                redisTemplate.delete(RedisKey.QUOTE_FEED_VERSION.getKey());
+                return null;
+            }
+
+            Collections.shuffle(quoteIds);
+
+            String version = String.valueOf(System.currentTimeMillis());
+            String poolKey = poolKey(version);
+
+            for (int from = 0; from < quoteIds.size(); from += PUSH_CHUNK_SIZE) {
+                List<String> chunk = quoteIds.subList(from, Math.min(from + PUSH_CHUNK_SIZE, quoteIds.size()))
+                    .stream()
+                    .map(String::valueOf)
+                    .toList();
+
+                redisTemplate.opsForList().rightPushAll(poolKey, chunk);
+            }
+
+            redisTemplate.expire(poolKey, POOL_TTL);
+            redisTemplate.opsForValue().set(RedisKey.QUOTE_FEED_VERSION.getKey(), version);
+
+            log.info("글귀 피드 풀 재생성 완료 version={}, size={}", version, quoteIds.size());
+
+            return version;
+        } finally {
+            redisTemplate.delete(RedisKey.QUOTE_FEED_LOCK.getKey());
+        }
+    }
+
+    public void appendToPool(Long quoteId) {
+        String version = redisTemplate.opsForValue().get(RedisKey.QUOTE_FEED_VERSION.getKey());
+
+        if (version != null && Boolean.TRUE.equals(redisTemplate.hasKey(poolKey(version)))) {
+            redisTemplate.opsForList().rightPush(poolKey(version), String.valueOf(quoteId));
+        }
+    }
+
+    private FeedPosition resolvePosition(String cursor, long startOffset) {
+        FeedPosition requested = decodeCursor(cursor);
+
+        if (requested != null && Boolean.TRUE.equals(redisTemplate.hasKey(poolKey(requested.version())))) {
+            return requested;
+        }
+
+        String version = currentVersion();
+
+        if (version == null) {
+            return null;
+        }
+
+        return new FeedPosition(version, (cursor == null) ? startOffset : 0);
+    }
+
+    private String currentVersion() {
+        String version = redisTemplate.opsForValue().get(RedisKey.QUOTE_FEED_VERSION.getKey());
+
+        if (version != null && Boolean.TRUE.equals(redisTemplate.hasKey(poolKey(version)))) {
+            return version;
+        }
+
+        return rebuildPool();
+    }
+
+    private String poolKey(String version) {
+        return RedisKey.QUOTE_FEED_POOL.getKey() + version;
+    }
+
+    private String encodeCursor(FeedPosition position) {
+        String raw = position.version() + CURSOR_DELIMITER + position.offset();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private FeedPosition decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(CURSOR_DELIMITER);
+
+            if (parts.length != 2) {
+                return null;
+            }
+
+            long offset = Long.parseLong(parts[1]);
+
+            return (offset >= 0) ? new FeedPosition(parts[0], offset) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 글귀 피드 커서 cursor={}", cursor);
+            return null;
+        }
+    }
+
+    private record FeedPosition(String version, long offset) {
+    }
+
+    public record QuoteFeedSlice(List<Long> quoteIds, String nextCursor) {
+
+        public static QuoteFeedSlice empty() {
+            return new QuoteFeedSlice(Collections.emptyList(), null);
+        }
+    }
+}
@@ -1,19 +1,20 @@
 package com.lovedbug.geulgwi.core.domain.quote.mapper;
 
+import com.lovedbug.geulgwi.core.domain.like.dto.response.QuoteLikeStatus;
 import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteSearchContentResponse;
 import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteSearchResponse;
 import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteWithBookResponse;
 import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
 import org.springframework.data.domain.Page;
 import java.util.List;
+import java.util.Map;
 
 public class QuoteMapper {
 
-    public static QuoteSearchResponse toQuoteSearchResponse(Page<Quote> quotes, Long memberId) {
+    public static QuoteSearchResponse toQuoteSearchResponse(Page<Quote> quotes, Map<Long, QuoteLikeStatus> likeStatuses) {
         List<QuoteSearchContentResponse> contents = quotes.getContent().stream()
             .map(quote -> {
-                boolean isLiked = quote.getLikes().stream()
-                    .anyMatch(like -> like.getMemberId().equals(memberId));
+                QuoteLikeStatus likeStatus = likeStatuses.getOrDefault(quote.getQuoteId(), QuoteLikeStatus.NONE);
 
                 return QuoteSearchContentResponse.builder()
                     .quoteId(quote.getQuoteId())
@@ -21,8 +22,8 @@ public class QuoteMapper {
                     .content(quote.getContent())
                     .page(quote.getPage())
                     .views(quote.getViews())
-                    .likes(quote.getLikes().size())
-                    .isliked(isLiked)
+                    .likes((int) likeStatus.likeCount())
+                    .isliked(likeStatus.liked())
                     .build();
             })
             .toList();
@@ -48,7 +49,7 @@ public class QuoteMapper {
             .build();
     }
 
-    public static QuoteWithBookResponse toQuoteWithBookResponse(Quote quote, Long memberId) {
+    public static QuoteWithBookResponse toQuoteWithBookResponse(Quote quote, QuoteLikeStatus likeStatus) {
         return QuoteWithBookResponse.builder()
             .quoteId(quote.getQuoteId())
             .quoteImageName(quote.getImageName())
@@ -60,9 +61,8 @@ public class QuoteMapper {
             .content(quote.getContent())
             .publisher(quote.getBook().getPublisher())
             .bookCoverUrl(quote.getBook().getCoverUrl())
-            .isLiked(quote.getLikes().stream()
-                .anyMatch(like -> like.getMemberId().equals(memberId)))
-            .likeCount(quote.getLikes().size())
+            .isLiked(likeStatus.liked())
+            .likeCount(likeStatus.likeCount())
             .build();
     }
 }
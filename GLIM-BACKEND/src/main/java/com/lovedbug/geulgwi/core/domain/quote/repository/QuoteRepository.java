@@ -2,13 +2,17 @@ package com.lovedbug.geulgwi.core.domain.quote.repository;
 
 import java.util.List;
 import java.util.Optional;
+import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteChosungResponse;
 import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface QuoteRepository extends JpaRepository<Quote, Long> {
@@ -23,14 +27,47 @@ public interface QuoteRepository extends JpaRepository<Quote, Long> {
     @EntityGraph(attributePaths = {"book"})
     List<Quote> findAllByBookIsbnAndVisibility(String isbn, String visibility);
 
-    @EntityGraph(attributePaths = {"book", "likes"})
+    @EntityGraph(attributePaths = {"book"})
     Page<Quote> findByContentContainingAndVisibility(String content, String visibility, Pageable pageable);
 
-    @Query("SELECT q FROM Quote q JOIN FETCH q.book WHERE q.visibility = 'PUBLIC' ORDER BY function('random')")
-    List<Quote> findPublicQuotesByRandom(Pageable pageable);
+    @Query("SELECT q.quoteId FROM Quote q WHERE q.visibility = 'PUBLIC'")
+    List<Long> findPublicQuoteIds();
+
+    @Query("SELECT q FROM Quote q JOIN FETCH q.book WHERE q.quoteId IN :quoteIds")
+    List<Quote> findAllWithBookByIds(@Param("quoteIds") List<Long> quoteIds);
+
+    @Query("SELECT q FROM Quote q JOIN FETCH q.book WHERE q.quoteId IN :quoteIds AND q.visibility = 'PUBLIC'")
+    List<Quote> findPublicQuotesWithBookByIds(@Param("quoteIds") List<Long> quoteIds);
 
-    @EntityGraph(attributePaths = {"book", "likes"})
+    @Query("""
+        SELECT new com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteChosungResponse(q.quoteId, q.content, q.bookTitle)
+        FROM Quote q WHERE q.visibility = 'PUBLIC' ORDER BY q.quoteId
+        """)
+    List<QuoteChosungResponse> findPublicChosungResponses();
+
+    @EntityGraph(attributePaths = {"book"})
     Optional<Quote> findByQuoteIdAndVisibility(Long quoteId, String visibility);
 
     Page<Quote> findByContentContainingIgnoreCase(String content, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Quote q SET q.likeCount = q.likeCount + 1 WHERE q.quoteId = :quoteId")
+    int increaseLikeCount(@Param("quoteId") Long quoteId);
+
+    @Modifying
+    @Query("UPDATE Quote q SET q.likeCount = q.likeCount - 1 WHERE q.quoteId = :quoteId AND q.likeCount > 0")
+    int decreaseLikeCount(@Param("quoteId") Long quoteId);
+
+    @Query("SELECT COALESCE(MAX(q.quoteId), 0) FROM Quote q")
+    long findMaxQuoteId();
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE quote
+        SET like_count = (SELECT COUNT(*) FROM member_like_quote mlq WHERE mlq.quote_id = quote.quote_id)
+        WHERE quote_id BETWEEN :fromId AND :toId
+          AND like_count <> (SELECT COUNT(*) FROM member_like_quote mlq WHERE mlq.quote_id = quote.quote_id)
+        """, nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
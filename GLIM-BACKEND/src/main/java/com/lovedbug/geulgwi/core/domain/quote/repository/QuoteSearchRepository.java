@@ -0,0 +1,51 @@
+package com.lovedbug.geulgwi.core.domain.quote.repository;
+
+import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+public interface QuoteSearchRepository extends Repository<Quote, Long> {
+
+    @Query(value = """
+        SELECT r.quote_id
+        FROM (SELECT q.quote_id, q.views, q.page, q.like_count, q.created_at, q.updated_at,
+                     ts_rank(q.content_bigrams, geulgwi_bigram_query(:keyword)) AS relevance
+              FROM quote q
+              WHERE q.visibility = 'PUBLIC'
+                AND q.content_bigrams @@ geulgwi_bigram_query(:keyword)
+                AND q.content ILIKE '%' || :escapedKeyword || '%' ESCAPE '\\') r
+        """,
+        countQuery = """
+        SELECT COUNT(*)
+        FROM quote q
+        WHERE q.visibility = 'PUBLIC'
+          AND q.content_bigrams @@ geulgwi_bigram_query(:keyword)
+          AND q.content ILIKE '%' || :escapedKeyword || '%' ESCAPE '\\'
+        """,
+        nativeQuery = true)
+    Page<Long> searchPublicIdsByContent(@Param("keyword") String keyword,
+                                        @Param("escapedKeyword") String escapedKeyword,
+                                        Pageable pageable);
+
+    @Query(value = """
+        SELECT r.quote_id
+        FROM (SELECT q.quote_id, q.views, q.page, q.like_count, q.created_at, q.updated_at,
+                     ts_rank(q.content_bigrams, geulgwi_bigram_query(:keyword)) AS relevance
+              FROM quote q
+              WHERE q.content_bigrams @@ geulgwi_bigram_query(:keyword)
+                AND q.content ILIKE '%' || :escapedKeyword || '%' ESCAPE '\\') r
+        """,
+        countQuery = """
+        SELECT COUNT(*)
+        FROM quote q
+        WHERE q.content_bigrams @@ geulgwi_bigram_query(:keyword)
+          AND q.content ILIKE '%' || :escapedKeyword || '%' ESCAPE '\\'
+        """,
+        nativeQuery = true)
+    Page<Long> searchAllIdsByContent(@Param("keyword") String keyword,
+                                     @Param("escapedKeyword") String escapedKeyword,
+                                     Pageable pageable);
+}
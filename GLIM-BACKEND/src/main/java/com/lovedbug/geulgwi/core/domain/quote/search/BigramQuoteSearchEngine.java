@@ -0,0 +1,116 @@
+package com.lovedbug.geulgwi.core.domain.quote.search;
+
+import com.lovedbug.geulgwi.core.domain.quote.constant.Visibility;
+import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
+import com.lovedbug.geulgwi.core.domain.quote.exception.UnsupportedSortException;
+import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
+import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteSearchRepository;
+import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "quote.search.engine", havingValue = "bigram")
+public class BigramQuoteSearchEngine implements QuoteSearchEngine {
+
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^0-9a-z가-힣ㄱ-ㅎㅏ-ㅣ]+");
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        "quoteId", "r.quote_id",
+        "views", "r.views",
+        "page", "r.page",
+        "likeCount", "r.like_count",
+        "createdAt", "r.created_at",
+        "updatedAt", "r.updated_at"
+    );
+    private static final Sort RELEVANCE = JpaSort.unsafe(Sort.Direction.DESC, "r.relevance");
+    private static final Sort TIE_BREAKER = JpaSort.unsafe(Sort.Direction.DESC, "r.quote_id");
+
+    private final QuoteSearchRepository quoteSearchRepository;
+    private final QuoteRepository quoteRepository;
+
+    @Override
+    public Page<Quote> searchPublic(String keyword, Pageable pageable) {
+        if (isTooShortForBigram(keyword)) {
+            return quoteRepository.findByContentContainingAndVisibility(keyword, Visibility.PUBLIC.name(), pageable);
+        }
+
+        return hydrate(quoteSearchRepository.searchPublicIdsByContent(keyword, escapeLike(keyword), nativeSorted(pageable)));
+    }
+
+    @Override
+    public Page<Quote> searchAll(String keyword, Pageable pageable) {
+        if (isTooShortForBigram(keyword)) {
+            return quoteRepository.findByContentContainingIgnoreCase(keyword, pageable);
+        }
+
+        return hydrate(quoteSearchRepository.searchAllIdsByContent(keyword, escapeLike(keyword), nativeSorted(pageable)));
+    }
+
+    private Page<Quote> hydrate(Page<Long> quoteIds) {
+        if (quoteIds.isEmpty()) {
+            return new PageImpl<>(List.of(), quoteIds.getPageable(), quoteIds.getTotalElements());
+        }
+
+        Map<Long, Quote> quotesById = quoteRepository.findAllWithBookByIds(quoteIds.getContent()).stream()
+            .collect(Collectors.toMap(Quote::getQuoteId, Function.identity()));
+
+        List<Quote> quotes = quoteIds.getContent().stream()
+            .map(quotesById::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return new PageImpl<>(quotes, quoteIds.getPageable(), quoteIds.getTotalElements());
+    }
+
+    private boolean isTooShortForBigram(String keyword) {
+        return TOKEN_DELIMITER.splitAsStream(keyword.toLowerCase())
+            .noneMatch(token -> token.codePointCount(0, token.length()) >= 2);
+    }
+
+    private Pageable nativeSorted(Pageable pageable) {
+        Sort sort = toNativeSort(pageable.getSort());
+
+        return pageable.isPaged()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+            : Pageable.unpaged(sort);
+    }
+
+    private Sort toNativeSort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return RELEVANCE.and(TIE_BREAKER);
+        }
+
+        Sort nativeSort = Sort.unsorted();
+
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+
+            if (column == null) {
+                throw new UnsupportedSortException("지원하지 않는 정렬 기준입니다: " + order.getProperty());
+            }
+
+            nativeSort = nativeSort.and(JpaSort.unsafe(order.getDirection(), column));
+        }
+
+        return nativeSort.and(TIE_BREAKER);
+    }
+
+    private String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+}
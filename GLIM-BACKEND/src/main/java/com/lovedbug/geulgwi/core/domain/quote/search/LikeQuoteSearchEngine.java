@@ -0,0 +1,28 @@
+package com.lovedbug.geulgwi.core.domain.quote.search;
+
+import com.lovedbug.geulgwi.core.domain.quote.constant.Visibility;
+import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
+import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "quote.search.engine", havingValue = "like", matchIfMissing = true)
+public class LikeQuoteSearchEngine implements QuoteSearchEngine {
+
+    private final QuoteRepository quoteRepository;
+
+    @Override
+    public Page<Quote> searchPublic(String keyword, Pageable pageable) {
+        return quoteRepository.findByContentContainingAndVisibility(keyword, Visibility.PUBLIC.name(), pageable);
+    }
+
+    @Override
+    public Page<Quote> searchAll(String keyword, Pageable pageable) {
+        return quoteRepository.findByContentContainingIgnoreCase(keyword, pageable);
+    }
+}
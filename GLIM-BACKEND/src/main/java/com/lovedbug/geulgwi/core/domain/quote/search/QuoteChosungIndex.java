@@ -0,0 +1,91 @@
+package com.lovedbug.geulgwi.core.domain.quote.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.lovedbug.geulgwi.core.common.search.ChosungIndex;
+import com.lovedbug.geulgwi.core.domain.quote.constant.Visibility;
+import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteChosungResponse;
+import com.lovedbug.geulgwi.core.domain.quote.event.QuoteDeletedEvent;
+import com.lovedbug.geulgwi.core.domain.quote.event.QuoteSavedEvent;
+import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteChosungIndex {
+
+    private volatile ChosungIndex<QuoteChosungResponse> index = new ChosungIndex<>();
+
+    private final Object rebuildLock = new Object();
+    private List<Consumer<ChosungIndex<QuoteChosungResponse>>> pendingUpdates;
+
+    private final QuoteRepository quoteRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            bufferUpdates(new ArrayList<>());
+
+            try {
+                List<QuoteChosungResponse> quotes = quoteRepository.findPublicChosungResponses();
+
+                ChosungIndex<QuoteChosungResponse> rebuilt = new ChosungIndex<>();
+
+                for (QuoteChosungResponse quote : quotes) {
+                    rebuilt.put(quote.quoteId(), quote.content(), quote);
+                }
+
+                replayAndSwap(rebuilt);
+            } finally {
+                bufferUpdates(null);
+            }
+        }
+
+        log.info("글귀 초성 색인 생성 완료. size = {}", index.size());
+    }
+
+    public List<QuoteChosungResponse> search(String chosung, int limit) {
+        return index.search(chosung, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuoteSaved(QuoteSavedEvent event) {
+        if (!Visibility.PUBLIC.name().equals(event.visibility())) {
+            apply(target -> target.remove(event.quoteId()));
+            return;
+        }
+
+        QuoteChosungResponse quote = new QuoteChosungResponse(event.quoteId(), event.content(), event.bookTitle());
+
+        apply(target -> target.put(event.quoteId(), event.content(), quote));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuoteDeleted(QuoteDeletedEvent event) {
+        apply(target -> target.remove(event.quoteId()));
+    }
+
+    private synchronized void apply(Consumer<ChosungIndex<QuoteChosungResponse>> update) {
+        update.accept(index);
+
+        if (pendingUpdates != null) {
+            pendingUpdates.add(update);
+        }
+    }
+
+    private synchronized void bufferUpdates(List<Consumer<ChosungIndex<QuoteChosungResponse>>> buffer) {
+        pendingUpdates = buffer;
+    }
+
+    private synchronized void replayAndSwap(ChosungIndex<QuoteChosungResponse> rebuilt) {
+        pendingUpdates.forEach(update -> update.accept(rebuilt));
+        index = rebuilt;
+    }
+}
@@ -0,0 +1,12 @@
+package com.lovedbug.geulgwi.core.domain.quote.search;
+
+import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface QuoteSearchEngine {
+
+    Page<Quote> searchPublic(String keyword, Pageable pageable);
+
+    Page<Quote> searchAll(String keyword, Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.lovedbug.geulgwi.core.domain.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AutocompleteScheduler {
+
+    private final AutocompleteService autocompleteService;
+
+    @Scheduled(fixedDelayString = "${search.autocomplete.rebuild-interval-millis:300000}",
+        initialDelayString = "${search.autocomplete.rebuild-interval-millis:300000}")
+    public void rebuildAutocomplete() {
+        autocompleteService.rebuild();
+    }
+}
@@ -0,0 +1,53 @@
+package com.lovedbug.geulgwi.core.domain.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import com.lovedbug.geulgwi.core.common.search.PrefixTrie;
+import com.lovedbug.geulgwi.core.domain.book.BookRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    private static final int TOP_K = 10;
+
+    private final SearchKeywordService searchKeywordService;
+    private final BookRepository bookRepository;
+
+    @Value("${search.autocomplete.keyword-size:1000}")
+    private int keywordSize;
+
+    private volatile PrefixTrie prefixTrie = PrefixTrie.build(Map.of(), TOP_K);
+
+    public List<String> complete(String prefix, int limit) {
+        return prefixTrie.complete(prefix, Math.min(limit, TOP_K));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<String, Double> weights = new HashMap<>(searchKeywordService.getKeywordScores(keywordSize));
+
+        for (Object[] row : bookRepository.findAllTitlesWithViews()) {
+            String title = (String) row[0];
+            Integer views = (Integer) row[1];
+
+            weights.merge(title, bookTitleWeight(views), Double::sum);
+        }
+
+        prefixTrie = PrefixTrie.build(weights, TOP_K);
+
+        log.info("자동완성 색인 생성 완료. size = {}", prefixTrie.size());
+    }
+
+    private double bookTitleWeight(Integer views) {
+        return 1 + Math.log1p(views != null ? views : 0);
+    }
+}
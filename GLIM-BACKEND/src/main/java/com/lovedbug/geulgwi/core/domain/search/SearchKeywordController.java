@@ -1,9 +1,15 @@
 package com.lovedbug.geulgwi.core.domain.search;
 
+import com.lovedbug.geulgwi.core.common.http.CachePolicy;
+import com.lovedbug.geulgwi.core.common.http.ConditionalResponses;
+import com.lovedbug.geulgwi.core.common.ranking.TimeWindow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import java.util.List;
 
@@ -13,12 +19,24 @@ import java.util.List;
 public class SearchKeywordController {
 
     private final SearchKeywordService searchKeywordService;
+    private final AutocompleteService autocompleteService;
 
     @GetMapping("/popular")
-    public ResponseEntity<List<String>> getSearchHistory() {
+    public ResponseEntity<List<String>> getSearchHistory(
+        @RequestParam(value = "window", defaultValue = "DAY") TimeWindow window,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return ConditionalResponses.of(ifNoneMatch, searchKeywordService.getPopularSearchKeywords(window),
+            CachePolicy.POPULAR_KEYWORDS);
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> getAutocompleteKeywords(
+        @RequestParam("prefix") String prefix,
+        @RequestParam(value = "limit", defaultValue = "10") int limit) {
 
         return ResponseEntity
             .ok()
-            .body(searchKeywordService.getPopularSearchKeywords());
+            .body(autocompleteService.complete(prefix, limit));
     }
 }
@@ -0,0 +1,67 @@
+package com.lovedbug.geulgwi.core.domain.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+import com.lovedbug.geulgwi.core.common.ranking.SpaceSavingCounter;
+import com.lovedbug.geulgwi.core.common.ranking.TrendingRankingStore;
+
+@Slf4j
+@Component
+public class SearchKeywordCounter {
+
+    private final SpaceSavingCounter sketch;
+    private final TrendingRankingStore trendingRankingStore;
+    private final Timer flushTimer;
+    private final int flushTopK;
+
+    public SearchKeywordCounter(TrendingRankingStore trendingRankingStore, MeterRegistry meterRegistry,
+                                @Value("${search.keyword.sketch-capacity:2000}") int sketchCapacity,
+                                @Value("${search.keyword.flush-top-k:200}") int flushTopK) {
+        this.sketch = new SpaceSavingCounter(sketchCapacity);
+        this.trendingRankingStore = trendingRankingStore;
+        this.flushTopK = flushTopK;
+
+        Gauge.builder("geulgwi.search.keyword.sketch.size", sketch, SpaceSavingCounter::size)
+            .register(meterRegistry);
+
+        this.flushTimer = Timer.builder("geulgwi.search.keyword.flush")
+            .register(meterRegistry);
+    }
+
+    public void add(String keyword) {
+        sketch.add(keyword, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${search.keyword.flush-interval-millis:5000}")
+    public synchronized void flush() {
+        Map<String, Long> counts = sketch.drainTop(flushTopK);
+
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        Map<String, Double> scores = new HashMap<>(counts.size());
+        counts.forEach((keyword, count) -> scores.put(keyword, count.doubleValue()));
+
+        try {
+            flushTimer.record(() -> trendingRankingStore.incrementAll(RedisKey.TRENDING_KEYWORDS.getKey(), scores));
+        } catch (RuntimeException e) {
+            log.error("검색어 집계 반영 실패, 다음 주기에 재시도합니다. size={}", counts.size(), e);
+            counts.forEach(sketch::add);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
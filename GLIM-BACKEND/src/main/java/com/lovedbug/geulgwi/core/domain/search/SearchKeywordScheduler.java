@@ -0,0 +1,17 @@
+package com.lovedbug.geulgwi.core.domain.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SearchKeywordScheduler {
+
+    private final SearchKeywordService searchKeywordService;
+
+    @Scheduled(fixedDelayString = "${ranking.window-refresh-interval-millis:60000}")
+    public void refreshTrendingKeywords() {
+        searchKeywordService.refreshTrendingWindows();
+    }
+}
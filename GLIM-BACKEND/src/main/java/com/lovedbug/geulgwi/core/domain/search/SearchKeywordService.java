@@ -3,9 +3,15 @@ package com.lovedbug.geulgwi.core.domain.search;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import java.util.*;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+import com.lovedbug.geulgwi.core.common.http.Versioned;
+import com.lovedbug.geulgwi.core.common.ranking.TimeWindow;
+import com.lovedbug.geulgwi.core.common.ranking.TrendingRankingStore;
+import com.lovedbug.geulgwi.core.common.search.KeywordNormalizer;
 
 
 @Slf4j
@@ -13,18 +19,51 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SearchKeywordService {
 
-    private static final String POPULAR_KEYWORDS_KEY = "popular:search:keywords";
+    private static final String LEGACY_POPULAR_KEYWORDS_KEY = "popular:search:keywords";
+    private static final int POPULAR_KEYWORD_SIZE = 10;
+    private static final int MAX_KEYWORD_LENGTH = 50;
+
     private final StringRedisTemplate stringRedisTemplate;
+    private final TrendingRankingStore trendingRankingStore;
+    private final SearchKeywordCounter searchKeywordCounter;
 
-    public List<String> getPopularSearchKeywords() {
+    public Versioned<List<String>> getPopularSearchKeywords(TimeWindow window) {
+        List<String> keywords = trendingRankingStore.top(RedisKey.TRENDING_KEYWORDS.getKey(), window, POPULAR_KEYWORD_SIZE);
 
-        Set<String> topKeywords = Optional.ofNullable(stringRedisTemplate.boundZSetOps(POPULAR_KEYWORDS_KEY)
-            .reverseRange(0, 9)).orElse(Collections.emptySet());
+        return Versioned.of(keywords, window, String.join("\n", keywords));
+    }
 
-        return new ArrayList<>(topKeywords);
+    public Map<String, Double> getKeywordScores(int size) {
+        return trendingRankingStore.topWithScores(RedisKey.TRENDING_KEYWORDS.getKey(), TimeWindow.WEEK, size);
     }
 
     public void increaseKeywordScore(String keyword) {
-        stringRedisTemplate.boundZSetOps(POPULAR_KEYWORDS_KEY).incrementScore(keyword, 1);
+        String normalized = KeywordNormalizer.normalize(keyword);
+
+        if (normalized.isEmpty() || normalized.length() > MAX_KEYWORD_LENGTH) {
+            return;
+        }
+
+        searchKeywordCounter.add(normalized);
+    }
+
+    public void refreshTrendingWindows() {
+        for (TimeWindow window : TimeWindow.values()) {
+            trendingRankingStore.rebuildWindow(RedisKey.TRENDING_KEYWORDS.getKey(), window);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void removeLegacyKeywords() {
+        Boolean firstRun = stringRedisTemplate.opsForValue()
+            .setIfAbsent(RedisKey.LEGACY_KEYWORDS_REMOVED.getKey(), LEGACY_POPULAR_KEYWORDS_KEY);
+
+        if (!Boolean.TRUE.equals(firstRun)) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.unlink(LEGACY_POPULAR_KEYWORDS_KEY))) {
+            log.info("누적 인기 검색어 키 삭제 완료. key = {}", LEGACY_POPULAR_KEYWORDS_KEY);
+        }
     }
 }
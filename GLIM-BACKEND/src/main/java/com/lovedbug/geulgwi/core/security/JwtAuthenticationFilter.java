@@ -1,6 +1,8 @@
 package com.lovedbug.geulgwi.core.security;
 
+import com.lovedbug.geulgwi.core.domain.member.MemberStatusCache;
 import com.lovedbug.geulgwi.core.security.dto.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
 import com.lovedbug.geulgwi.external.email.AuthenticatedUserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +15,7 @@ import org.springframework.security.oauth2.jwt.JwtValidationException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -20,7 +23,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final AuthenticatedUserService authenticatedUserService;
+    private final MemberStatusCache memberStatusCache;
+    private final TokenRevocationService tokenRevocationService;
     public static final String AUTHENTICATED_USER_KEY = "authenticatedUser";
+    private static final String REFRESH_PATH = "/api/v1/auth/refresh";
 
     @Override
     protected void doFilterInternal(
@@ -32,25 +38,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractTokenFromRequest(request);
 
-            if (token == null) {
+            if (token == null || request.getRequestURI().equals(REFRESH_PATH)) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            if (request.getRequestURI().equals("/api/v1/auth/refresh")) {
-                if (!jwtUtil.validateRefreshToken(token)) {
-                    sendUnauthorizedResponse(response, "유효하지 않은 리프레시 토큰입니다.");
-                    return;
-                }
-            } else {
-
-                if (!jwtUtil.validateAccessToken(token)) {
-                    sendUnauthorizedResponse(response, "유효하지 않은 액세스 토큰입니다.");
-                    return;
-                }
+            Optional<Claims> claims = jwtUtil.parseAccessToken(token);
+
+            if (claims.isEmpty()) {
+                sendUnauthorizedResponse(response, "유효하지 않은 액세스 토큰입니다.");
+                return;
+            }
+
+            if (tokenRevocationService.isRevoked(claims.get())) {
+                sendUnauthorizedResponse(response, "로그아웃된 토큰입니다.");
+                return;
+            }
+
+            AuthenticatedUser user = extractUserFromClaims(claims.get());
+
+            if (!memberStatusCache.isActive(user.getMemberId())) {
+                sendUnauthorizedResponse(response, "비활성화된 회원입니다.");
+                return;
             }
 
-            AuthenticatedUser user = extractUserFromToken(token);
             request.setAttribute(AUTHENTICATED_USER_KEY, user);
 
             UsernamePasswordAuthenticationToken authentication =
@@ -79,13 +90,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private AuthenticatedUser extractUserFromToken(String token) {
-        String email = jwtUtil.extractEmail(token);
-        AuthenticatedUser user = authenticatedUserService.getAuthenticatedUser(email);
+    private AuthenticatedUser extractUserFromClaims(Claims claims) {
+        Long memberId = claims.get(JwtUtil.CLAIM_MEMBER_ID, Long.class);
+
+        if (memberId == null) {
+            return authenticatedUserService.getAuthenticatedUser(claims.getSubject());
+        }
 
         return AuthenticatedUser.builder()
-            .memberId(user.getMemberId())
-            .email(user.getEmail())
+            .memberId(memberId)
+            .email(claims.getSubject())
             .build();
     }
 
@@ -2,6 +2,7 @@ package com.lovedbug.geulgwi.core.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.annotation.PostConstruct;
@@ -13,6 +14,7 @@ import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -24,25 +26,33 @@ public class JwtUtil {
 
     private SecretKey hmacKey;
 
+    private JwtParser jwtParser;
+
     private static final long ACCESS_TOKEN_EXPIRY = 1000L * 60 * 60;
     private static final long REFRESH_TOKEN_EXPIRY = 1000L * 60 * 60 * 24 * 30;
     public static final String TOKEN_PREFIX = "Bearer ";
     public static final String HEADER_AUTH  = "Authorization";
+    public static final String CLAIM_MEMBER_ID = "memberId";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
 
     @PostConstruct
     public void init() {
         this.hmacKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8),
             SignatureAlgorithm.HS256.getJcaName());
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(hmacKey)
+            .build();
     }
 
     public String generateAccessToken(String email, Long memberId){
 
-        return generateToken(email, memberId, ACCESS_TOKEN_EXPIRY, "access");
+        return generateToken(email, memberId, ACCESS_TOKEN_EXPIRY, ACCESS_TOKEN_TYPE);
     }
 
     public String generateRefreshToken (String email, Long memberId){
 
-        return generateToken(email, memberId, REFRESH_TOKEN_EXPIRY, "refresh");
+        return generateToken(email, memberId, REFRESH_TOKEN_EXPIRY, REFRESH_TOKEN_TYPE);
     }
 
     private String generateToken(String email, Long memberId ,long expiry, String tokenType){
@@ -54,48 +64,40 @@ public class JwtUtil {
             .setSubject(email)
             .setIssuedAt(now)
             .setExpiration(exp)
-            .claim("memberId", memberId)
+            .claim(CLAIM_MEMBER_ID, memberId)
             .claim("type", tokenType)
             .claim("jti", UUID.randomUUID().toString())
             .signWith(hmacKey)
             .compact();
     }
 
-    public String extractEmail(String token) {
+    public Optional<Claims> parseAccessToken(String token) {
 
-        return parseClaims(token).get("sub", String.class);
+        return parseToken(token, ACCESS_TOKEN_TYPE);
     }
 
-    public boolean validateRefreshToken(String token){
-
-        try{
-            Claims claims = parseClaims(token);
-            String tokenType = claims.get("type", String.class);
+    public Optional<Claims> parseRefreshToken(String token) {
 
-            return "refresh".equals(tokenType) && !claims.getExpiration().before(new Date());
-        }catch (JwtException | IllegalArgumentException e){
-            return false;
-        }
+        return parseToken(token, REFRESH_TOKEN_TYPE);
     }
 
-    public boolean validateAccessToken(String token){
+    private Optional<Claims> parseToken(String token, String expectedType) {
 
         try{
             Claims claims = parseClaims(token);
             String tokenType = claims.get("type", String.class);
 
-            return "access".equals(tokenType) && !claims.getExpiration().before(new Date());
-        }catch ( JwtException | IllegalArgumentException e){
-            return false;
+            if (!expectedType.equals(tokenType) || claims.getExpiration().before(new Date())) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        }catch (JwtException | IllegalArgumentException e){
+            return Optional.empty();
         }
     }
 
     private Claims parseClaims(String token){
 
-        return Jwts.parserBuilder()
-                .setSigningKey(hmacKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
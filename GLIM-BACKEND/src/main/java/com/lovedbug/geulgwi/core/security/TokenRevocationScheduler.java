@@ -0,0 +1,18 @@
+package com.lovedbug.geulgwi.core.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationScheduler {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @Scheduled(fixedDelayString = "${auth.revocation.rebuild-interval-millis:3600000}",
+        initialDelayString = "${auth.revocation.rebuild-interval-millis:3600000}")
+    public void rebuildRevocationFilter() {
+        tokenRevocationService.rebuild();
+    }
+}
@@ -0,0 +1,107 @@
+package com.lovedbug.geulgwi.core.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import com.lovedbug.geulgwi.core.common.bloom.BloomFilter;
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+
+@Slf4j
+@Component
+public class TokenRevocationService implements MessageListener {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final long SCAN_COUNT = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long expectedInsertions;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+
+    public TokenRevocationService(StringRedisTemplate stringRedisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${auth.revocation.expected-insertions:100000}") long expectedInsertions) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.filter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKey.TOKEN_REVOKED_CHANNEL.getKey()));
+    }
+
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        Duration remaining = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+
+        if (jti == null || remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+
+        stringRedisTemplate.opsForValue().set(RedisKey.REVOKED_TOKEN.getKey() + jti, "1", remaining);
+        register(jti);
+
+        stringRedisTemplate.convertAndSend(RedisKey.TOKEN_REVOKED_CHANNEL.getKey(), jti);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(RedisKey.REVOKED_TOKEN.getKey() + jti));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        String prefix = RedisKey.REVOKED_TOKEN.getKey();
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        rebuilding = rebuilt;
+
+        int size = 0;
+
+        try (Cursor<String> keys = stringRedisTemplate.scan(
+            ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build())) {
+
+            while (keys.hasNext()) {
+                rebuilt.put(keys.next().substring(prefix.length()));
+                size++;
+            }
+
+            filter = rebuilt;
+            log.info("토큰 폐기 필터 생성 완료. size = {}", size);
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 필터 생성 실패. 기존 필터를 유지합니다.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        register(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void register(String jti) {
+        BloomFilter next = rebuilding;
+        filter.put(jti);
+
+        if (next != null) {
+            next.put(jti);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.lovedbug.geulgwi.external.book_provider.aladdin;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.lovedbug.geulgwi.core.common.concurrent.SingleFlight;
+import com.lovedbug.geulgwi.core.common.search.KeywordNormalizer;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.constant.AladdinCachePolicy;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookListConditionDto;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookResponse;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookSearchConditionDto;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookSearchDto;
+import com.lovedbug.geulgwi.external.resilience.ExternalCallGuard;
+import com.lovedbug.geulgwi.external.resilience.ExternalDownstream;
+
+@Slf4j
+@Component
+public class CachedAladdinClient {
+
+    private static final String KEY_PREFIX = "aladdin:";
+    private static final long LOCAL_MAX_SIZE = 10_000;
+
+    private final AladdinClient aladdinClient;
+    private final ExternalCallGuard externalCallGuard;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, CachedBooks> localCache;
+    private final SingleFlight<String, CachedBooks> singleFlight;
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Counter> lookupCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public CachedAladdinClient(AladdinClient aladdinClient, ExternalCallGuard externalCallGuard,
+                               RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.aladdinClient = aladdinClient;
+        this.externalCallGuard = externalCallGuard;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAX_SIZE)
+            .expireAfter(new StaleTtlExpiry())
+            .build();
+        this.singleFlight = new SingleFlight<>("aladdin", meterRegistry);
+    }
+
+    public List<AladdinBookResponse> searchBooksByCondition(AladdinBookSearchConditionDto condition) {
+        String key = cacheKey(AladdinCachePolicy.SEARCH, condition.getQueryType(), condition.getStart(),
+            KeywordNormalizer.normalize(condition.getQuery()));
+
+        return get(key, AladdinCachePolicy.SEARCH, () -> aladdinClient.searchBooksByCondition(condition));
+    }
+
+    public List<AladdinBookResponse> getBooks(AladdinBookListConditionDto condition) {
+        String key = cacheKey(AladdinCachePolicy.LIST, condition.getQueryType(), condition.getStart(), "");
+
+        return get(key, AladdinCachePolicy.LIST, () -> aladdinClient.getBooks(condition));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private List<AladdinBookResponse> get(String key, AladdinCachePolicy policy, Supplier<AladdinBookSearchDto> loader) {
+        CachedBooks cached = localCache.getIfPresent(key);
+        String tier = "l1";
+
+        if (cached == null) {
+            cached = readRemote(key);
+            tier = "l2";
+
+            if (cached != null) {
+                localCache.put(key, cached);
+            }
+        }
+
+        if (cached == null) {
+            countLookup(policy, "miss");
+            return load(key, policy, loader).items();
+        }
+
+        if (cached.isStale()) {
+            countLookup(policy, tier + "_stale");
+            refreshInBackground(key, policy, loader);
+        } else {
+            countLookup(policy, tier + "_hit");
+        }
+
+        return cached.items();
+    }
+
+    private CachedBooks load(String key, AladdinCachePolicy policy, Supplier<AladdinBookSearchDto> loader) {
+        return singleFlight.execute(key, () -> fetch(key, policy, loader));
+    }
+
+    private CachedBooks fetch(String key, AladdinCachePolicy policy, Supplier<AladdinBookSearchDto> loader) {
+        AladdinBookSearchDto response = externalCallGuard.call(ExternalDownstream.ALADDIN, loader);
+        List<AladdinBookResponse> items = (response != null && response.getItems() != null) ? response.getItems() : List.of();
+
+        CachedBooks loaded = new CachedBooks(policy, items, System.currentTimeMillis());
+        localCache.put(key, loaded);
+        writeRemote(key, loaded, policy);
+
+        return loaded;
+    }
+
+    private void refreshInBackground(String key, AladdinCachePolicy policy, Supplier<AladdinBookSearchDto> loader) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+
+        refreshExecutor.execute(() -> {
+            try {
+                load(key, policy, loader);
+            } catch (RuntimeException e) {
+                log.warn("알라딘 캐시 갱신 실패, 만료 전까지 기존 응답을 사용합니다. key={}", key, e);
+            } finally {
+                refreshingKeys.remove(key);
+            }
+        });
+    }
+
+    private CachedBooks readRemote(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+
+            return (json != null) ? objectMapper.readValue(json, CachedBooks.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("알라딘 캐시 조회 실패. key={}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, CachedBooks books, AladdinCachePolicy policy) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(books), policy.getStaleTtl());
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("알라딘 캐시 저장 실패. key={}", key, e);
+        }
+    }
+
+    private void countLookup(AladdinCachePolicy policy, String result) {
+        lookupCounters.computeIfAbsent(policy.getKey() + ":" + result, name -> Counter.builder("geulgwi.aladdin.cache")
+            .tag("type", policy.getKey())
+            .tag("result", result)
+            .register(meterRegistry))
+            .increment();
+    }
+
+    private String cacheKey(AladdinCachePolicy policy, String queryType, int start, String query) {
+        return KEY_PREFIX + policy.getKey() + ":" + queryType + ":" + start + ":" + query;
+    }
+
+    public record CachedBooks(
+        AladdinCachePolicy policy,
+        List<AladdinBookResponse> items,
+        long fetchedAtMillis
+    ) {
+
+        private boolean isStale() {
+            return System.currentTimeMillis() - fetchedAtMillis > policy.getFreshTtl().toMillis();
+        }
+
+        private long remainingNanos() {
+            long ageMillis = System.currentTimeMillis() - fetchedAtMillis;
+
+            return Duration.ofMillis(Math.max(policy.getStaleTtl().toMillis() - ageMillis, 0)).toNanos();
+        }
+    }
+
+    private static final class StaleTtlExpiry implements Expiry<String, CachedBooks> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedBooks value, long currentTime) {
+            return value.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedBooks value, long currentTime, long currentDuration) {
+            return value.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedBooks value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.lovedbug.geulgwi.external.book_provider.aladdin.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+public enum AladdinCachePolicy {
+
+    SEARCH("search", Duration.ofMinutes(10), Duration.ofHours(1)),
+    LIST("list", Duration.ofHours(1), Duration.ofHours(6));
+
+    private final String key;
+    private final Duration freshTtl;
+    private final Duration staleTtl;
+}
@@ -1,11 +1,17 @@
 package com.lovedbug.geulgwi.external.book_provider.aladdin.dto;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.ToString;
 import com.fasterxml.jackson.annotation.JsonSetter;
 
 @ToString
 @Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AladdinBookResponse {
 
     private String title;
@@ -2,6 +2,7 @@ package com.lovedbug.geulgwi.external.email;
 
 import com.samskivert.mustache.Mustache;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -9,6 +10,7 @@ import org.springframework.mail.javamail.JavaMailSenderImpl;
 import java.util.Properties;
 
 @Configuration
+@EnableConfigurationProperties(EmailDispatchProperties.class)
 public class EmailConfig {
 
     @Value("${spring.mail.host}")
@@ -23,6 +25,15 @@ public class EmailConfig {
     @Value("${spring.mail.password}")
     private String password;
 
+    @Value("${spring.mail.properties.mail.smtp.connectiontimeout:5000}")
+    private int connectionTimeoutMillis;
+
+    @Value("${spring.mail.properties.mail.smtp.timeout:5000}")
+    private int readTimeoutMillis;
+
+    @Value("${spring.mail.properties.mail.smtp.writetimeout:5000}")
+    private int writeTimeoutMillis;
+
     @Bean
     public JavaMailSender mailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
@@ -35,6 +46,9 @@ public class EmailConfig {
         props.put("mail.transport.protocol", "smtp");
         props.put("mail.smtp.auth", "true");
         props.put("mail.smtp.starttls.enable", "true");
+        props.put("mail.smtp.connectiontimeout", String.valueOf(connectionTimeoutMillis));
+        props.put("mail.smtp.timeout", String.valueOf(readTimeoutMillis));
+        props.put("mail.smtp.writetimeout", String.valueOf(writeTimeoutMillis));
         props.put("mail.debug", "false");
 
         return mailSender;
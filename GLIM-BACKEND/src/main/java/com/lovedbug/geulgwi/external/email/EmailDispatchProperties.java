@@ -0,0 +1,19 @@
+package com.lovedbug.geulgwi.external.email;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "geulgwi.email.dispatch")
+public class EmailDispatchProperties {
+
+    private int queueCapacity = 1_000;
+    private int workers = 2;
+    private int batchSize = 20;
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,188 @@
+package com.lovedbug.geulgwi.external.email;
+
+import com.lovedbug.geulgwi.external.email.constant.EmailErrorCode;
+import com.lovedbug.geulgwi.external.email.exception.EmailException;
+import com.lovedbug.geulgwi.external.resilience.ExternalCallGuard;
+import com.lovedbug.geulgwi.external.resilience.ExternalDownstream;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class EmailDispatcher {
+
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final JavaMailSender mailSender;
+    private final ExternalCallGuard externalCallGuard;
+    private final EmailDispatchProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<OutgoingEmail> queue;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+    private final Set<OutgoingEmail> pendingRetries = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+
+    public EmailDispatcher(JavaMailSender mailSender, ExternalCallGuard externalCallGuard,
+                           EmailDispatchProperties properties, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.externalCallGuard = externalCallGuard;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.workers = Executors.newFixedThreadPool(properties.getWorkers(),
+            Thread.ofPlatform().name("email-dispatch-", 0).factory());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("email-retry").daemon().factory());
+
+        Gauge.builder("geulgwi.email.queue.size", queue, Collection::size)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.submit(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        dropPendingRetries();
+        workers.shutdown();
+
+        if (!workers.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("이메일 발송 큐 종료 시간 초과. 남은 메일 수 = {}", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    public void dispatch(OutgoingEmail email) {
+        if (!queue.offer(email)) {
+            record("rejected", 1);
+            throw new EmailException(EmailErrorCode.EMAIL_QUEUE_FULL, "to=" + email.to());
+        }
+    }
+
+    private void drain() {
+        List<OutgoingEmail> batch = new ArrayList<>(properties.getBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                OutgoingEmail first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("이메일 발송 워커 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<OutgoingEmail> batch) {
+        MimeMessage[] messages = batch.stream()
+            .map(OutgoingEmail::message)
+            .toArray(MimeMessage[]::new);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            externalCallGuard.run(ExternalDownstream.MAIL, () -> mailSender.send(messages));
+            sample.stop(sendTimer("success"));
+            record("sent", batch.size());
+        } catch (MailSendException e) {
+            sample.stop(sendTimer("failure"));
+            Map<Object, Exception> failed = e.getFailedMessages();
+
+            for (OutgoingEmail email : batch) {
+                if (failed.isEmpty() || failed.containsKey(email.message())) {
+                    retry(email, e);
+                } else {
+                    record("sent", 1);
+                }
+            }
+        } catch (RuntimeException e) {
+            sample.stop(sendTimer("failure"));
+            batch.forEach(email -> retry(email, e));
+        }
+    }
+
+    private void retry(OutgoingEmail email, Exception cause) {
+        if (email.attempt() >= properties.getMaxAttempts() || !running) {
+            log.error("이메일 발송 최종 실패: type={}, to={}, attempt={}", email.type(), email.to(), email.attempt(), cause);
+            record("dropped", 1);
+            return;
+        }
+
+        long delayMillis = properties.getInitialBackoff().toMillis() << (email.attempt() - 1);
+        log.warn("이메일 발송 실패, {}ms 후 재시도합니다. type={}, to={}, attempt={}",
+            delayMillis, email.type(), email.to(), email.attempt());
+        record("retried", 1);
+
+        pendingRetries.add(email);
+        retryScheduler.schedule(() -> {
+            if (!pendingRetries.remove(email)) {
+                return;
+            }
+
+            if (!queue.offer(email.nextAttempt())) {
+                log.error("이메일 재시도 큐 적재 실패: type={}, to={}", email.type(), email.to());
+                record("dropped", 1);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void dropPendingRetries() {
+        for (OutgoingEmail email : pendingRetries) {
+            if (pendingRetries.remove(email)) {
+                log.error("종료로 인해 대기 중인 이메일 재시도를 취소합니다: type={}, to={}, attempt={}",
+                    email.type(), email.to(), email.attempt());
+                record("dropped", 1);
+            }
+        }
+    }
+
+    private Timer sendTimer(String result) {
+        return meterRegistry.timer("geulgwi.email.send", "result", result);
+    }
+
+    private void record(String outcome, int count) {
+        meterRegistry.counter("geulgwi.email.messages", "outcome", outcome).increment(count);
+    }
+}
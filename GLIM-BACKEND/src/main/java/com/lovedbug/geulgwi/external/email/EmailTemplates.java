@@ -0,0 +1,56 @@
+package com.lovedbug.geulgwi.external.email;
+
+import com.lovedbug.geulgwi.external.email.constant.EmailErrorCode;
+import com.lovedbug.geulgwi.external.email.exception.EmailException;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailTemplates {
+
+    public static final String VERIFICATION = "email/verification-email";
+    public static final String WELCOME = "email/welcome-email";
+
+    private final ResourceLoader resourceLoader;
+    private final Mustache.Compiler mustacheCompiler;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void precompile() {
+        List.of(VERIFICATION, WELCOME).forEach(name -> templates.computeIfAbsent(name, this::compile));
+    }
+
+    public String render(String templateName, Map<String, Object> model) {
+
+        return templates.computeIfAbsent(templateName, this::compile).execute(model);
+    }
+
+    private Template compile(String templateName) {
+
+        try {
+            Resource resource = resourceLoader.getResource("classpath:templates/" + templateName + ".mustache");
+
+            try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                return mustacheCompiler.compile(reader);
+            }
+        } catch (IOException e) {
+            log.error("템플릿 컴파일 실패: {}", templateName, e);
+            throw new EmailException(EmailErrorCode.EMAIL_TEMPLATE_ERROR, "template=" + templateName);
+        }
+    }
+}
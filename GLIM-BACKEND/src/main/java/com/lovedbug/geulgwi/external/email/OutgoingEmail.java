@@ -0,0 +1,19 @@
+package com.lovedbug.geulgwi.external.email;
+
+import jakarta.mail.internet.MimeMessage;
+
+public record OutgoingEmail(
+    String to,
+    String type,
+    MimeMessage message,
+    int attempt
+) {
+
+    public static OutgoingEmail of(String to, String type, MimeMessage message) {
+        return new OutgoingEmail(to, type, message, 1);
+    }
+
+    public OutgoingEmail nextAttempt() {
+        return new OutgoingEmail(to, type, message, attempt + 1);
+    }
+}
@@ -11,7 +11,8 @@ public enum EmailErrorCode implements ErrorCode {
 
    EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "EMAIL-001", "이미 가입된 이메일 입니다."),
    EMAIL_SEND_FAILED(HttpStatus.UNAUTHORIZED, "EMAIL-002", "이메일 발송에 실패 햤습니다."),
-   EMAIL_TEMPLATE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "EMAIL-003", "이메일 템플릿 렌더링 처리에 실패 했습니다.");
+   EMAIL_TEMPLATE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "EMAIL-003", "이메일 템플릿 렌더링 처리에 실패 했습니다."),
+   EMAIL_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "EMAIL-004", "이메일 발송 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
 
    private final HttpStatus httpStatus;
    private final String code;
@@ -0,0 +1,10 @@
+package com.lovedbug.geulgwi.external.fcm.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class FcmInvalidTokenException extends FcmException {
+
+    public FcmInvalidTokenException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -1,28 +1,50 @@
 package com.lovedbug.geulgwi.external.fcm.service;
 
+import com.google.api.core.ApiFuture;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.Notification;
 import com.lovedbug.geulgwi.external.fcm.dto.response.FcmMessageDto;
 import com.lovedbug.geulgwi.external.fcm.entity.FcmTokens;
+import com.lovedbug.geulgwi.external.fcm.exception.FcmException;
+import com.lovedbug.geulgwi.external.fcm.exception.FcmInvalidTokenException;
 import com.lovedbug.geulgwi.external.fcm.repository.FcmTokenRepository;
 import com.lovedbug.geulgwi.core.domain.member.Member;
 import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
+import com.lovedbug.geulgwi.external.resilience.ExternalCallGuard;
+import com.lovedbug.geulgwi.external.resilience.ExternalDownstream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmPushService {
 
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(5);
+    private static final Set<MessagingErrorCode> TOKEN_ERROR_CODES = EnumSet.of(
+        MessagingErrorCode.UNREGISTERED,
+        MessagingErrorCode.INVALID_ARGUMENT,
+        MessagingErrorCode.SENDER_ID_MISMATCH
+    );
+
     private final FirebaseMessaging firebaseMessaging;
     private final FcmTokenRepository fcmTokenRepository;
+    private final ExternalCallGuard externalCallGuard;
 
     @Transactional(readOnly = true)
     public void sendLikeNotification(Member member, Quote quote) {
@@ -40,9 +62,17 @@ public class FcmPushService {
 
             } catch(Exception e) {
 
-                if (e.getMessage() != null){
+                if (ExternalCallGuard.isRejected(e.getCause())) {
+                    log.warn("FCM 호출이 제한되어 알림 전송을 건너뜁니다. cause={}", e.getCause().toString());
+                    return;
+                }
+
+                if (e.getCause() instanceof FcmInvalidTokenException) {
                     token.updateIsActive(false);
+                    return;
                 }
+
+                log.warn("FCM 알림 전송 실패. cause={}", String.valueOf(e.getCause()));
             }
         });
     }
@@ -53,7 +83,9 @@ public class FcmPushService {
             Message.Builder messageBuilder = Message.builder()
                 .setToken(fcmMessage.getTo());
 
-            firebaseMessaging.send(messageBuilder.putAllData(likeFcmMessageData(fcmMessage)).build());
+            Message message = messageBuilder.putAllData(likeFcmMessageData(fcmMessage)).build();
+
+            externalCallGuard.call(ExternalDownstream.FCM, () -> send(message));
 
         } catch (Exception e) {
 
@@ -61,6 +93,28 @@ public class FcmPushService {
         }
     }
 
+    private String send(Message message) {
+        ApiFuture<String> future = firebaseMessaging.sendAsync(message);
+
+        try {
+            return future.get(SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new FcmException("FCM 응답 시간 초과", HttpStatus.GATEWAY_TIMEOUT);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new FcmException("FCM 전송 중 인터럽트 발생", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FirebaseMessagingException messagingException
+                && TOKEN_ERROR_CODES.contains(messagingException.getMessagingErrorCode())) {
+                throw new FcmInvalidTokenException(messagingException.getMessage());
+            }
+
+            throw new FcmException(String.valueOf(e.getCause()), HttpStatus.BAD_GATEWAY);
+        }
+    }
+
     private Map<String, String> likeFcmMessageData(FcmMessageDto fcmMessage) {
 
         Map<String, String> data = new HashMap<>();
@@ -1,17 +1,22 @@
 package com.lovedbug.geulgwi.external.gpt;
 
 import com.google.common.net.HttpHeaders;
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
 
 @Slf4j
 @Configuration
 public class WebClientConfig {
 
+    private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+
     @Value("${openai.key}")
     private String apiKey;
 
@@ -27,8 +32,12 @@ public class WebClientConfig {
                     .maxInMemorySize(20 * 1024 * 1024)
             ).build();
 
+        HttpClient httpClient = HttpClient.create()
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS);
+
         return WebClient.builder()
             .baseUrl(baseUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
             .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
             .exchangeStrategies(strategies)
             .build();
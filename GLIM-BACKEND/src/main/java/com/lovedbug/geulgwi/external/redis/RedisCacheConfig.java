@@ -1,33 +1,41 @@
 package com.lovedbug.geulgwi.external.redis;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovedbug.geulgwi.external.redis.cache.TwoLevelCacheManager;
+import com.lovedbug.geulgwi.external.redis.cache.TwoLevelCacheProperties;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(TwoLevelCacheProperties.class)
 public class RedisCacheConfig {
 
     @Bean
     public RedisCacheConfiguration cacheConfiguration() {
         return RedisCacheConfiguration.defaultCacheConfig()
-            .disableCachingNullValues();
-    }
-
-    @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
             .serializeValuesWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
             ).disableCachingNullValues();
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-            .cacheDefaults(config)
-            .build();
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             RedisCacheConfiguration cacheConfiguration,
+                                             TwoLevelCacheProperties properties,
+                                             StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                             MeterRegistry meterRegistry,
+                                             RedisMessageListenerContainer redisMessageListenerContainer) {
+        return new TwoLevelCacheManager(connectionFactory, cacheConfiguration, properties, stringRedisTemplate,
+            objectMapper, meterRegistry, redisMessageListenerContainer);
     }
 }
@@ -0,0 +1,8 @@
+package com.lovedbug.geulgwi.external.redis.cache;
+
+public record CacheInvalidationMessage(
+    String origin,
+    String cacheName,
+    String key
+) {
+}
@@ -0,0 +1,148 @@
+package com.lovedbug.geulgwi.external.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.cache.RedisCache;
+
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final RedisCache remote;
+    private final Consumer<CacheInvalidationMessage> invalidationPublisher;
+    private final String origin;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Timer loadTimer;
+
+    public TwoLevelCache(String name, Cache<String, Object> local, RedisCache remote,
+                         Consumer<CacheInvalidationMessage> invalidationPublisher, String origin,
+                         MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.origin = origin;
+
+        this.localHits = requestCounter(meterRegistry, "local", "hit");
+        this.redisHits = requestCounter(meterRegistry, "redis", "hit");
+        this.misses = requestCounter(meterRegistry, "redis", "miss");
+        this.loadTimer = Timer.builder("geulgwi.cache.load")
+            .tag("cache", name)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+
+        if (wrapper == null || wrapper.get() == null) {
+            misses.increment();
+            return null;
+        }
+
+        redisHits.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+
+        if (cached != null) {
+            return (T) fromStoreValue(cached);
+        }
+
+        return (T) fromStoreValue(local.get(localKey(key), localKey -> toStoreValue(remote.get(key, () -> loadTimer.recordCallable(valueLoader)))));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), toStoreValue(value));
+        publish(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+
+        if (existing == null) {
+            local.put(localKey(key), toStoreValue(value));
+            publish(key);
+        }
+
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        publish(key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(new CacheInvalidationMessage(origin, name, null));
+    }
+
+    public void evictLocal(Object key) {
+        local.invalidate(localKey(key));
+    }
+
+    void applyRemoteInvalidation(String key) {
+        if (key == null) {
+            local.invalidateAll();
+            return;
+        }
+
+        local.invalidate(key);
+    }
+
+    private void publish(Object key) {
+        invalidationPublisher.accept(new CacheInvalidationMessage(origin, name, localKey(key)));
+    }
+
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("geulgwi.cache.requests")
+            .tag("cache", name)
+            .tag("level", level)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
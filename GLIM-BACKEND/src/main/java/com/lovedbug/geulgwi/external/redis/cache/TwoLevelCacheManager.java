@@ -0,0 +1,120 @@
+package com.lovedbug.geulgwi.external.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    private final RedisCacheManager redisCacheManager;
+    private final TwoLevelCacheProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public TwoLevelCacheManager(RedisConnectionFactory connectionFactory, RedisCacheConfiguration redisConfiguration,
+                                TwoLevelCacheProperties properties, StringRedisTemplate stringRedisTemplate,
+                                ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.redisCacheManager = RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(redisConfiguration.entryTtl(properties.getDefaults().getRedisTtl()))
+            .withInitialCacheConfigurations(redisConfigurations(redisConfiguration, properties))
+            .build();
+        this.redisCacheManager.afterPropertiesSet();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKey.CACHE_INVALIDATION_CHANNEL.getKey()));
+    }
+
+    @Override
+    public org.springframework.cache.Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return List.copyOf(caches.keySet());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+
+            if (origin.equals(invalidation.origin())) {
+                return;
+            }
+
+            TwoLevelCache cache = caches.get(invalidation.cacheName());
+
+            if (cache != null) {
+                cache.applyRemoteInvalidation(invalidation.key());
+            }
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 처리 실패. message={}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        TwoLevelCacheProperties.Spec spec = properties.specOf(name);
+
+        Cache<String, Object> local = Caffeine.newBuilder()
+            .maximumSize(spec.getLocalMaxSize())
+            .expireAfterWrite(spec.getLocalTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+
+        RedisCache remote = (RedisCache) redisCacheManager.getCache(name);
+
+        return new TwoLevelCache(name, local, remote, this::publish, origin, meterRegistry);
+    }
+
+    private static Map<String, RedisCacheConfiguration> redisConfigurations(RedisCacheConfiguration redisConfiguration,
+                                                                     TwoLevelCacheProperties properties) {
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+
+        properties.getCaches().keySet().forEach(name ->
+            configurations.put(name, redisConfiguration.entryTtl(properties.specOf(name).getRedisTtl())));
+
+        return configurations;
+    }
+
+    private void publish(CacheInvalidationMessage invalidation) {
+        try {
+            stringRedisTemplate.convertAndSend(RedisKey.CACHE_INVALIDATION_CHANNEL.getKey(),
+                objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 무효화 메시지 직렬화 실패. cache={}", invalidation.cacheName(), e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.lovedbug.geulgwi.external.redis.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "geulgwi.cache")
+public class TwoLevelCacheProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec specOf(String cacheName) {
+        Spec spec = caches.get(cacheName);
+
+        if (spec == null) {
+            return defaults;
+        }
+
+        return new Spec(
+            spec.localTtl != null ? spec.localTtl : defaults.localTtl,
+            spec.localMaxSize != null ? spec.localMaxSize : defaults.localMaxSize,
+            spec.redisTtl != null ? spec.redisTtl : defaults.redisTtl
+        );
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        private Duration localTtl = Duration.ofMinutes(5);
+        private Long localMaxSize = 1_000L;
+        private Duration redisTtl = Duration.ofHours(1);
+
+        public Spec() {
+        }
+
+        public Spec(Duration localTtl, Long localMaxSize, Duration redisTtl) {
+            this.localTtl = localTtl;
+            this.localMaxSize = localMaxSize;
+            this.redisTtl = redisTtl;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.lovedbug.geulgwi.external.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ExternalCallGuard {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public <T> T call(ExternalDownstream downstream, Supplier<T> supplier) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(downstream.getInstanceName());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(downstream.getInstanceName());
+
+        return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, supplier)).get();
+    }
+
+    public void run(ExternalDownstream downstream, Runnable runnable) {
+        call(downstream, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+}
@@ -0,0 +1,16 @@
+package com.lovedbug.geulgwi.external.resilience;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExternalDownstream {
+
+    ALADDIN("aladdin"),
+    OPENAI("openai"),
+    FCM("fcm"),
+    MAIL("mail");
+
+    private final String instanceName;
+}
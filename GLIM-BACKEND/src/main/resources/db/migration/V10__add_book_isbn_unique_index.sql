@@ -0,0 +1,51 @@
+UPDATE book
+SET isbn = NULLIF(TRIM(isbn), '');
+
+CREATE TEMPORARY TABLE book_duplicate ON COMMIT DROP AS
+SELECT book_id, keep_id
+FROM (SELECT book_id,
+             MIN(book_id) OVER (PARTITION BY isbn) AS keep_id
+      FROM book
+      WHERE isbn IS NOT NULL) ranked
+WHERE book_id <> keep_id;
+
+UPDATE book
+SET views = COALESCE(book.views, 0) + merged.views
+FROM (SELECT d.keep_id, SUM(COALESCE(b.views, 0)) AS views
+      FROM book_duplicate d
+               JOIN book b ON b.book_id = d.book_id
+      GROUP BY d.keep_id) merged
+WHERE book.book_id = merged.keep_id;
+
+UPDATE quote
+SET book_id = d.keep_id
+FROM book_duplicate d
+WHERE quote.book_id = d.book_id;
+
+UPDATE curation_item_book
+SET book_id = d.keep_id
+FROM book_duplicate d
+WHERE curation_item_book.book_id = d.book_id;
+
+DELETE
+FROM member_like_book
+WHERE member_like_book_id IN (SELECT member_like_book_id
+                              FROM (SELECT l.member_like_book_id,
+                                           ROW_NUMBER() OVER (
+                                               PARTITION BY l.member_id, COALESCE(d.keep_id, l.book_id)
+                                               ORDER BY d.book_id IS NOT NULL, l.member_like_book_id) AS rn
+                                    FROM member_like_book l
+                                             LEFT JOIN book_duplicate d ON d.book_id = l.book_id) likes
+                              WHERE rn > 1);
+
+UPDATE member_like_book
+SET book_id = d.keep_id
+FROM book_duplicate d
+WHERE member_like_book.book_id = d.book_id;
+
+DELETE
+FROM book
+    USING book_duplicate d
+WHERE book.book_id = d.book_id;
+
+CREATE UNIQUE INDEX ux_book_isbn ON book (isbn);
@@ -0,0 +1,9 @@
+ALTER TABLE quote
+    ADD COLUMN like_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE quote
+SET like_count = l.cnt
+    FROM (SELECT quote_id, COUNT(*) AS cnt
+          FROM member_like_quote
+          GROUP BY quote_id) l
+WHERE quote.quote_id = l.quote_id;
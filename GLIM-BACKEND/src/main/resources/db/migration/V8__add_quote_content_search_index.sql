@@ -0,0 +1,29 @@
+CREATE OR REPLACE FUNCTION geulgwi_bigrams(input TEXT)
+    RETURNS TEXT[]
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS $$
+SELECT COALESCE(array_agg(DISTINCT gram), '{}')
+FROM (SELECT CASE WHEN char_length(word) = 1 THEN word ELSE substr(word, pos, 2) END AS gram
+      FROM regexp_split_to_table(lower(COALESCE(input, '')), '[^0-9a-z가-힣ㄱ-ㅎㅏ-ㅣ]+') AS word,
+           generate_series(1, GREATEST(char_length(word) - 1, 1)) AS pos
+      WHERE word <> '') grams
+$$;
+
+CREATE OR REPLACE FUNCTION geulgwi_bigram_query(input TEXT)
+    RETURNS TSQUERY
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS $$
+SELECT COALESCE(string_agg(quote_literal(gram), ' & '), '')::tsquery
+FROM unnest(geulgwi_bigrams(input)) AS gram
+WHERE char_length(gram) = 2
+$$;
+
+ALTER TABLE quote
+    ADD COLUMN content_bigrams TSVECTOR
+        GENERATED ALWAYS AS (array_to_tsvector(geulgwi_bigrams(content))) STORED;
+
+CREATE INDEX idx_quote_content_bigrams ON quote USING GIN (content_bigrams);
@@ -0,0 +1,8 @@
+CREATE TABLE book_sync_cursor (
+    keyword VARCHAR(100) PRIMARY KEY,
+    next_page INT NOT NULL DEFAULT 1,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    last_synced_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
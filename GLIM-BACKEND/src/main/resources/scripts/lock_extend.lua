@@ -0,0 +1,7 @@
+-- KEYS[1]: 락 키
+-- ARGV[1]: 락 소유자 토큰, ARGV[2]: 연장할 TTL(ms)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+
+return 0
@@ -0,0 +1,7 @@
+-- KEYS[1]: 락 키
+-- ARGV[1]: 락 소유자 토큰
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+
+return 0
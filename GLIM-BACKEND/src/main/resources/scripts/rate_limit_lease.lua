@@ -0,0 +1,34 @@
+-- KEYS[1]: 토큰 버킷 키
+-- ARGV[1]: 버킷 용량, ARGV[2]: ms당 충전량, ARGV[3]: 요청 토큰 수, ARGV[4]: 버킷 TTL(ms)
+local key = KEYS[1]
+local capacity = tonumber(ARGV[1])
+local refillPerMillis = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+local ttl = tonumber(ARGV[4])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * refillPerMillis)
+
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', key, ttl)
+
+local retryAfter = 0
+if granted == 0 then
+    retryAfter = math.ceil((1 - tokens) / refillPerMillis)
+end
+
+return { granted, retryAfter }
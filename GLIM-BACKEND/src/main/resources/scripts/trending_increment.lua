@@ -0,0 +1,18 @@
+-- KEYS[1]: 시간 버킷 키
+-- ARGV[1]: 버킷 TTL(초), ARGV[2]: 버킷 최대 크기, ARGV[3..]: member, score 쌍
+local key = KEYS[1]
+local ttl = tonumber(ARGV[1])
+local maxSize = tonumber(ARGV[2])
+
+for i = 3, #ARGV, 2 do
+    redis.call('ZINCRBY', key, ARGV[i + 1], ARGV[i])
+end
+
+redis.call('EXPIRE', key, ttl)
+
+local overflow = redis.call('ZCARD', key) - maxSize
+if overflow > 0 then
+    redis.call('ZREMRANGEBYRANK', key, 0, overflow - 1)
+end
+
+return (#ARGV - 2) / 2
@@ -0,0 +1,40 @@
+package com.lovedbug.geulgwi.config;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+public class TestPostgresConfig {
+
+    private static final DockerImageName POSTGRES_IMAGE = DockerImageName.parse("postgres:16-alpine");
+    private static final String DATABASE = "geulgwi";
+    private static final String USERNAME = "geulgwi";
+    private static final String PASSWORD = "geulgwi";
+
+    public static final GenericContainer<?> POSTGRES_CONTAINER;
+
+    static {
+        POSTGRES_CONTAINER = new GenericContainer<>(POSTGRES_IMAGE)
+            .withEnv("POSTGRES_DB", DATABASE)
+            .withEnv("POSTGRES_USER", USERNAME)
+            .withEnv("POSTGRES_PASSWORD", PASSWORD)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+        POSTGRES_CONTAINER.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(POSTGRES_CONTAINER::stop));
+    }
+
+    public static void overridePostgresProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:postgresql://%s:%d/%s"
+            .formatted(POSTGRES_CONTAINER.getHost(), POSTGRES_CONTAINER.getMappedPort(5432), DATABASE));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> USERNAME);
+        registry.add("spring.datasource.password", () -> PASSWORD);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+    }
+}
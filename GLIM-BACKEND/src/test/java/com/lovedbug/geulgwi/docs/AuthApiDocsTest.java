@@ -173,6 +173,7 @@ public class AuthApiDocsTest extends RestDocsTestSupport{
         Member savedMember = memberRepository.save(member);
 
         String accessToken = jwtUtil.generateAccessToken(savedMember.getEmail(), savedMember.getMemberId());
+        String refreshToken = jwtUtil.generateRefreshToken(savedMember.getEmail(), savedMember.getMemberId());
 
         String deviceId = "device-123";
 
@@ -188,6 +189,7 @@ public class AuthApiDocsTest extends RestDocsTestSupport{
 
         LogoutRequest request = LogoutRequest.builder()
             .deviceId(deviceId)
+            .refreshToken(refreshToken)
             .build();
 
         given(this.spec)
@@ -199,7 +201,8 @@ public class AuthApiDocsTest extends RestDocsTestSupport{
                     headerWithName(HEADER_AUTH).description("로그인한 사용자의 액세스 토큰")
                 ),
                 requestFields(
-                    fieldWithPath("deviceId").description("로그아웃 처리할 단말의 ID")
+                    fieldWithPath("deviceId").description("로그아웃 처리할 단말의 ID"),
+                    fieldWithPath("refreshToken").description("함께 폐기할 리프레시 토큰").optional()
                 )
             ))
             .when()
@@ -209,6 +212,84 @@ public class AuthApiDocsTest extends RestDocsTestSupport{
             .statusCode(204);
     }
 
+    @DisplayName("로그아웃한_토큰은_더_이상_사용할_수_없다.")
+    @Test
+    void revoked_tokens_are_rejected_after_logout() {
+
+        Member savedMember = memberRepository.save(AuthTestMemberFactory.createLoginTestMember(passwordEncoder));
+
+        String accessToken = jwtUtil.generateAccessToken(savedMember.getEmail(), savedMember.getMemberId());
+        String refreshToken = jwtUtil.generateRefreshToken(savedMember.getEmail(), savedMember.getMemberId());
+
+        LogoutRequest request = LogoutRequest.builder()
+            .deviceId("device-456")
+            .refreshToken(refreshToken)
+            .build();
+
+        given(this.spec)
+            .header(HEADER_AUTH, TOKEN_PREFIX + accessToken)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(request)
+            .when()
+            .post("/api/v1/auth/logout")
+            .then()
+            .statusCode(204);
+
+        given(this.spec)
+            .header(HEADER_AUTH, TOKEN_PREFIX + accessToken)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(request)
+            .when()
+            .post("/api/v1/auth/logout")
+            .then()
+            .statusCode(401);
+
+        given(this.spec)
+            .header(HEADER_AUTH, TOKEN_PREFIX + refreshToken)
+            .when()
+            .post("/api/v1/auth/refresh")
+            .then()
+            .statusCode(401);
+    }
+
+    @DisplayName("비활성화된_회원은_토큰을_갱신할_수_없다.")
+    @Test
+    void refresh_rejects_inactive_member() {
+
+        Member member = AuthTestMemberFactory.createLoginTestMember(passwordEncoder);
+        member.changeStatus(MemberStatus.INACTIVE);
+        Member savedMember = memberRepository.save(member);
+
+        String refreshToken = jwtUtil.generateRefreshToken(savedMember.getEmail(), savedMember.getMemberId());
+
+        given(this.spec)
+            .header(HEADER_AUTH, TOKEN_PREFIX + refreshToken)
+            .when()
+            .post("/api/v1/auth/refresh")
+            .then()
+            .statusCode(403);
+    }
+
+    @DisplayName("정지된_회원의_액세스_토큰은_거절된다.")
+    @Test
+    void access_token_of_suspended_member_is_rejected() {
+
+        Member member = AuthTestMemberFactory.createLoginTestMember(passwordEncoder);
+        member.changeStatus(MemberStatus.SUSPENDED);
+        Member savedMember = memberRepository.save(member);
+
+        String accessToken = jwtUtil.generateAccessToken(savedMember.getEmail(), savedMember.getMemberId());
+
+        given(this.spec)
+            .header(HEADER_AUTH, TOKEN_PREFIX + accessToken)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(LogoutRequest.builder().deviceId("device-789").build())
+            .when()
+            .post("/api/v1/auth/logout")
+            .then()
+            .statusCode(401);
+    }
+
     @DisplayName("사용자가_유효한_토큰으로_갱신한다.")
     @Test
     void refresh_token_test() {
@@ -7,6 +7,9 @@ import com.lovedbug.geulgwi.config.TestRedisConfig;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
@@ -14,16 +17,23 @@ import static org.springframework.restdocs.restassured.RestAssuredRestDocumentat
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.restdocs.payload.FieldDescriptor;
+import com.lovedbug.geulgwi.core.common.view.ViewCountFlushedEvent;
+import com.lovedbug.geulgwi.core.common.view.ViewTarget;
 import com.lovedbug.geulgwi.core.domain.book.entity.Book;
+import com.lovedbug.geulgwi.core.domain.book.BookChosungIndex;
 import com.lovedbug.geulgwi.core.domain.book.BookRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.ActiveProfiles;
@@ -38,6 +48,15 @@ public class BookApiDocsTest extends RestDocsTestSupport {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private BookChosungIndex bookChosungIndex;
+
     @MockitoBean
     private FirebaseMessaging firebaseMessaging;
 
@@ -55,6 +74,8 @@ public class BookApiDocsTest extends RestDocsTestSupport {
         jdbcTemplate.execute("TRUNCATE TABLE book");
         jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
 
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+
         entityManager.clear();
     }
 
@@ -140,6 +161,111 @@ public class BookApiDocsTest extends RestDocsTestSupport {
                 .statusCode(200);
     }
 
+    @DisplayName("도서가_바뀌지_않았으면_304를_응답한다")
+    @Test
+    void get_book_info_not_modified() {
+        Book book = bookRepository.save(Book.builder()
+                .title("재밌는 책")
+                .author("김작가")
+                .isbn("7654321")
+                .build());
+
+        String etag = given(this.spec)
+                .when()
+                .get("/api/v1/books/{id}", book.getBookId())
+                .then()
+                .statusCode(200)
+                .extract().header(HttpHeaders.ETAG);
+
+        given(this.spec)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .filter(document("{class_name}/{method_name}",
+                        pathParameters(
+                                parameterWithName("id").description("도서 ID")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 응답의 ETag")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG).description("현재 도서 정보의 ETag"),
+                                headerWithName(HttpHeaders.CACHE_CONTROL).description("캐시 정책")
+                        )
+                ))
+                .when()
+                .get("/api/v1/books/{id}", book.getBookId())
+                .then().log().all()
+                .statusCode(304);
+    }
+
+    @DisplayName("카테고리별_인기_도서_순위를_조회한다")
+    @Test
+    void get_book_ranking() {
+        Book book = bookRepository.save(Book.builder()
+                .title("재밌는 책")
+                .author("김작가")
+                .publisher("출판사")
+                .categoryId(1)
+                .coverUrl("http://aladdin.com/image.jpg")
+                .build());
+
+        eventPublisher.publishEvent(new ViewCountFlushedEvent(ViewTarget.BOOK, Map.of(book.getBookId(), 1L)));
+
+        given(this.spec)
+                .param("categoryId", 1)
+                .param("window", "DAY")
+                .param("limit", 10)
+                .filter(document("{class_name}/{method_name}",
+                        queryParameters(
+                                parameterWithName("categoryId").description("카테고리 ID (선택, 없으면 전체 순위)").optional(),
+                                parameterWithName("window").description("집계 기간 (선택, DAY(기본값, 최근 24시간), WEEK(최근 7일))").optional(),
+                                parameterWithName("limit").description("조회할 개수 (선택, 기본값 10, 최대 50)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("[].bookId").description("도서 ID"),
+                                fieldWithPath("[].bookTitle").description("도서 제목"),
+                                fieldWithPath("[].author").description("저자"),
+                                fieldWithPath("[].publisher").description("출판사"),
+                                fieldWithPath("[].bookCoverUrl").description("도서 표지 URL")
+                        )
+                ))
+                .when()
+                .get("/api/v1/books/ranking")
+                .then().log().all()
+                .statusCode(200);
+    }
+
+    @DisplayName("초성으로_도서를_검색한다")
+    @Test
+    void search_books_by_chosung() {
+        bookRepository.save(Book.builder()
+                .title("재밌는 책")
+                .author("김작가")
+                .coverUrl("http://aladdin.com/image.jpg")
+                .build());
+
+        bookChosungIndex.rebuild();
+
+        given(this.spec)
+                .param("chosung", "ㅈㅁㄴ")
+                .param("limit", 20)
+                .filter(document("{class_name}/{method_name}",
+                        queryParameters(
+                                parameterWithName("chosung").description("검색할 초성 (완성형 한글을 넣으면 초성으로 변환)"),
+                                parameterWithName("limit").description("조회할 개수 (선택, 기본값 20, 최대 50)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("[].bookId").description("도서 ID"),
+                                fieldWithPath("[].title").description("도서 제목"),
+                                fieldWithPath("[].author").description("저자"),
+                                fieldWithPath("[].coverUrl").description("도서 표지 URL")
+                        )
+                ))
+                .when()
+                .get("/api/v1/books/by-chosung")
+                .then().log().all()
+                .statusCode(200);
+    }
+
     @DisplayName("도서_조회수를_1_증가시킨다")
     @Test
     void increase_book_view_count() {
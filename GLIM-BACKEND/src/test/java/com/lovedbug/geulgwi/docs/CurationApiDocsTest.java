@@ -1,16 +1,25 @@
 package com.lovedbug.geulgwi.docs;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static io.restassured.RestAssured.given;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.restassured.RestAssuredRestDocumentation.document;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -18,9 +27,12 @@ import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.lovedbug.geulgwi.config.TestRedisConfig;
-import com.lovedbug.geulgwi.core.domain.book.BookRankingService;
+import com.lovedbug.geulgwi.core.common.view.ViewCountFlushedEvent;
+import com.lovedbug.geulgwi.core.common.view.ViewTarget;
 import com.lovedbug.geulgwi.core.domain.book.BookRepository;
 import com.lovedbug.geulgwi.core.domain.book.entity.Book;
+import com.lovedbug.geulgwi.core.domain.curation.CurationSnapshot;
+import com.lovedbug.geulgwi.core.domain.curation.CurationSnapshotService;
 import com.lovedbug.geulgwi.core.domain.curation.constant.CurationType;
 import com.lovedbug.geulgwi.core.domain.curation.entity.CurationItem;
 import com.lovedbug.geulgwi.core.domain.curation.entity.CurationItemBook;
@@ -35,20 +47,22 @@ import com.lovedbug.geulgwi.core.domain.member.MemberRepository;
 import com.lovedbug.geulgwi.core.domain.member.constant.MemberGender;
 import com.lovedbug.geulgwi.core.domain.member.constant.MemberRole;
 import com.lovedbug.geulgwi.core.domain.member.constant.MemberStatus;
-import com.lovedbug.geulgwi.core.domain.quote.QuoteRankingService;
 import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
 import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
 
 class CurationApiDocsTest extends RestDocsTestSupport {
 
     @Autowired
-    private BookRankingService bookRankingService;
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    private QuoteRankingService quoteRankingService;
+    private MainCurationRepository mainCurationRepository;
 
     @Autowired
-    private MainCurationRepository mainCurationRepository;
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CurationSnapshotService curationSnapshotService;
 
     @Autowired
     private CurationItemRepository curationItemRepository;
@@ -90,10 +104,10 @@ class CurationApiDocsTest extends RestDocsTestSupport {
         stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
 
         jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
-        jdbcTemplate.execute("TRUNCATE TABLE curation_item_quote");
-        jdbcTemplate.execute("TRUNCATE TABLE curation_item_book");
-        jdbcTemplate.execute("TRUNCATE TABLE curation_item");
-        jdbcTemplate.execute("TRUNCATE TABLE main_curation");
+        jdbcTemplate.execute("TRUNCATE TABLE curation_item_quote RESTART IDENTITY");
+        jdbcTemplate.execute("TRUNCATE TABLE curation_item_book RESTART IDENTITY");
+        jdbcTemplate.execute("TRUNCATE TABLE curation_item RESTART IDENTITY");
+        jdbcTemplate.execute("TRUNCATE TABLE main_curation RESTART IDENTITY");
         jdbcTemplate.execute("TRUNCATE TABLE quote");
         jdbcTemplate.execute("TRUNCATE TABLE book");
         jdbcTemplate.execute("TRUNCATE TABLE member");
@@ -106,6 +120,7 @@ class CurationApiDocsTest extends RestDocsTestSupport {
     @Test
     void get_main_curation() {
         setUpCurationData();
+        refreshMainSnapshot();
 
         given(this.spec)
             .filter(document("{class_name}/{method_name}",
@@ -132,6 +147,37 @@ class CurationApiDocsTest extends RestDocsTestSupport {
             .extract().body().asString();
     }
 
+    @DisplayName("메인 큐레이션이 바뀌지 않았으면 304를 응답한다")
+    @Test
+    void get_main_curation_not_modified() {
+        setUpCurationData();
+        CurationSnapshot snapshot = refreshMainSnapshot();
+
+        assertThat(new String(snapshot.body(), StandardCharsets.UTF_8)).contains("한강 작가의 도서를 만나봐요");
+
+        given(this.spec)
+            .header(HttpHeaders.IF_NONE_MATCH, snapshot.etag())
+            .filter(document("{class_name}/{method_name}",
+                requestHeaders(
+                    headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 응답의 ETag")
+                ),
+                responseHeaders(
+                    headerWithName(HttpHeaders.ETAG).description("현재 메인 큐레이션의 ETag")
+                )
+            ))
+            .when()
+            .get("/api/v1/curations/main")
+            .then().log().all()
+            .statusCode(304)
+            .header(HttpHeaders.ETAG, snapshot.etag());
+    }
+
+    private CurationSnapshot refreshMainSnapshot() {
+        cacheManager.getCache("bookCurations").clear();
+        cacheManager.getCache("quoteCurations").clear();
+        return curationSnapshotService.rebuild();
+    }
+
     void setUpCurationData() {
         MainCuration mainCuration = new MainCuration();
 
@@ -156,7 +202,7 @@ class CurationApiDocsTest extends RestDocsTestSupport {
 
         book = bookRepository.save(book);
 
-        bookRankingService.updateBookRanking(book);
+        eventPublisher.publishEvent(new ViewCountFlushedEvent(ViewTarget.BOOK, Map.of(book.getBookId(), 1L)));
 
         CurationItemBook curationItemBook = CurationItemBook.builder()
             .curationItemId(bookCurationItem.getCurationItemId())
@@ -195,7 +241,7 @@ class CurationApiDocsTest extends RestDocsTestSupport {
 
         quote = quoteRepository.save(quote);
 
-        quoteRankingService.updateQuoteRanking(quote);
+        eventPublisher.publishEvent(new ViewCountFlushedEvent(ViewTarget.QUOTE, Map.of(quote.getQuoteId(), 1L)));
 
         CurationItemQuote curationItemQuote = CurationItemQuote.builder()
             .curationItemId(quoteCurationItem.getCurationItemId())
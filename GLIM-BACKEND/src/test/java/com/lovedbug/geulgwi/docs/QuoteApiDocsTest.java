@@ -17,6 +17,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
@@ -42,6 +44,7 @@ import com.lovedbug.geulgwi.core.domain.quote.entity.Quote;
 import com.lovedbug.geulgwi.external.image.handler.ImageHandler;
 import com.lovedbug.geulgwi.core.domain.book.BookRepository;
 import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
+import com.lovedbug.geulgwi.core.domain.quote.search.QuoteChosungIndex;
 
 @ActiveProfiles("test")
 class QuoteApiDocsTest extends RestDocsTestSupport {
@@ -73,6 +76,12 @@ class QuoteApiDocsTest extends RestDocsTestSupport {
     @MockitoBean
     private FirebaseMessaging firebaseMessaging;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private QuoteChosungIndex quoteChosungIndex;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -90,6 +99,8 @@ class QuoteApiDocsTest extends RestDocsTestSupport {
         jdbcTemplate.execute("TRUNCATE TABLE member_like_quote");
         jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
 
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+
         entityManager.clear();
     }
 
@@ -139,9 +150,13 @@ class QuoteApiDocsTest extends RestDocsTestSupport {
             .param("sort", "views,desc")
             .filter(document("{class_name}/{method_name}",
                 queryParameters(
-                    parameterWithName("page").description("페이지 번호 (0부터 시작, 기본값 0)"),
+                    parameterWithName("page").description("페이지 번호 (0부터 시작, 기본값 0, cursor 가 없을 때만 사용)"),
                     parameterWithName("size").description("페이지 크기 (기본값 10)"),
-                    parameterWithName("sort").description("정렬 기준, ex) views,desc 또는 createdDate,asc")
+                    parameterWithName("sort").description("정렬 기준, ex) views,desc 또는 createdDate,asc"),
+                    parameterWithName("cursor").description("이전 응답의 X-Next-Cursor 값 (선택, 없으면 처음부터 조회)").optional()
+                ),
+                responseHeaders(
+                    headerWithName("X-Next-Cursor").description("다음 페이지 커서 (마지막 페이지면 없음)").optional()
                 ),
                 responseFields(
                     fieldWithPath("[]").description("글귀 목록"),
@@ -256,6 +271,35 @@ class QuoteApiDocsTest extends RestDocsTestSupport {
             .statusCode(200);
     }
 
+    @DisplayName("초성으로 글귀를 검색한다")
+    @Test
+    void search_quotes_by_chosung() {
+        Book book = bookRepository.save(createBook());
+
+        quoteRepository.save(createQuote(book));
+
+        quoteChosungIndex.rebuild();
+
+        given(this.spec)
+            .param("chosung", "ㄱㄱ")
+            .param("limit", 20)
+            .filter(document("{class_name}/{method_name}",
+                queryParameters(
+                    parameterWithName("chosung").description("검색할 초성 (완성형 한글을 넣으면 초성으로 변환)"),
+                    parameterWithName("limit").description("조회할 개수 (선택, 기본값 20, 최대 50)").optional()
+                ),
+                responseFields(
+                    fieldWithPath("[].quoteId").description("글귀 ID"),
+                    fieldWithPath("[].content").description("글귀 내용"),
+                    fieldWithPath("[].bookTitle").description("도서 제목").optional()
+                )
+            ))
+            .when()
+            .get("/api/v1/quotes/by-chosung")
+            .then().log().all()
+            .statusCode(200);
+    }
+
     @DisplayName("ID로 특정 글귀를 조회한다")
     @Test
     void get_quote_by_id() {
@@ -3,12 +3,18 @@ package com.lovedbug.geulgwi.docs;
 import static io.restassured.RestAssured.given;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.restdocs.restassured.RestAssuredRestDocumentation.document;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.lovedbug.geulgwi.core.domain.search.AutocompleteService;
+import com.lovedbug.geulgwi.core.domain.search.SearchKeywordCounter;
 import com.lovedbug.geulgwi.core.domain.search.SearchKeywordService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -21,6 +27,15 @@ class SearchKeywordApiDocsTest extends RestDocsTestSupport {
     @Autowired
     private SearchKeywordService searchKeywordService;
 
+    @Autowired
+    private SearchKeywordCounter searchKeywordCounter;
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     @MockitoBean
     private FirebaseMessaging firebaseMessaging;
 
@@ -29,15 +44,25 @@ class SearchKeywordApiDocsTest extends RestDocsTestSupport {
         TestRedisConfig.overrideRedisProps(registry);
     }
 
+    @BeforeEach
+    void clearRedis() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+    }
+
     @DisplayName("인기_검색어를_조회한다")
     @Test
     void get_search_popular_history() {
         searchKeywordService.increaseKeywordScore("인기 검색어");
+        searchKeywordCounter.flush();
 
         given(this.spec)
+            .param("window", "DAY")
             .filter(document("{class_name}/{method_name}",
+                queryParameters(
+                    parameterWithName("window").description("집계 기간 (선택, DAY(기본값, 최근 24시간), WEEK(최근 7일))").optional()
+                ),
                 responseFields(
-                    fieldWithPath("[]").description("인기 검색어 리스트")
+                    fieldWithPath("[]").description("최근 검색 빈도를 시간 감쇠 적용해 집계한 인기 검색어 리스트")
                 )
             ))
             .when()
@@ -45,4 +70,30 @@ class SearchKeywordApiDocsTest extends RestDocsTestSupport {
             .then().log().all()
             .statusCode(200);
     }
+
+    @DisplayName("검색어_자동완성_목록을_조회한다")
+    @Test
+    void get_autocomplete_keywords() {
+        searchKeywordService.increaseKeywordScore("채식주의자");
+        searchKeywordService.increaseKeywordScore("책 읽는 법");
+        searchKeywordCounter.flush();
+        autocompleteService.rebuild();
+
+        given(this.spec)
+            .param("prefix", "채")
+            .param("limit", 10)
+            .filter(document("{class_name}/{method_name}",
+                queryParameters(
+                    parameterWithName("prefix").description("입력 중인 검색어 (마지막 글자는 조합 중인 한글도 허용)"),
+                    parameterWithName("limit").description("조회할 개수 (선택, 기본값 10, 최대 10)").optional()
+                ),
+                responseFields(
+                    fieldWithPath("[]").description("가중치 순으로 정렬된 자동완성 검색어 리스트")
+                )
+            ))
+            .when()
+            .get("/api/v1/search-keywords/autocomplete")
+            .then().log().all()
+            .statusCode(200);
+    }
 }
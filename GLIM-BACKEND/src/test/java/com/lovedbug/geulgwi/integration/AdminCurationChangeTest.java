@@ -0,0 +1,134 @@
+package com.lovedbug.geulgwi.integration;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.lovedbug.geulgwi.config.TestRedisConfig;
+import com.lovedbug.geulgwi.core.domain.admin.curation.AdminCurationService;
+import com.lovedbug.geulgwi.core.domain.admin.dto.request.CreateCurationRequest;
+import com.lovedbug.geulgwi.core.domain.admin.dto.request.UpdateCurationRequest;
+import com.lovedbug.geulgwi.core.domain.book.BookRepository;
+import com.lovedbug.geulgwi.core.domain.book.entity.Book;
+import com.lovedbug.geulgwi.core.domain.curation.constant.CurationType;
+import com.lovedbug.geulgwi.core.domain.curation.entity.MainCuration;
+import com.lovedbug.geulgwi.core.domain.curation.repository.CurationItemRepository;
+import com.lovedbug.geulgwi.core.domain.curation.repository.MainCurationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AdminCurationChangeTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AdminCurationService adminCurationService;
+
+    @Autowired
+    private MainCurationRepository mainCurationRepository;
+
+    @Autowired
+    private CurationItemRepository curationItemRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockitoBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @DynamicPropertySource
+    static void setRedisProps(DynamicPropertyRegistry registry) {
+        TestRedisConfig.overrideRedisProps(registry);
+    }
+
+    @BeforeEach
+    void clearDatabase() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.execute("TRUNCATE TABLE curation_item_quote RESTART IDENTITY");
+        jdbcTemplate.execute("TRUNCATE TABLE curation_item_book RESTART IDENTITY");
+        jdbcTemplate.execute("TRUNCATE TABLE curation_item RESTART IDENTITY");
+        jdbcTemplate.execute("TRUNCATE TABLE main_curation RESTART IDENTITY");
+        jdbcTemplate.execute("TRUNCATE TABLE book");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+        entityManager.clear();
+    }
+
+    @DisplayName("관리자가_큐레이션을_생성_수정_삭제하면_메인_큐레이션_응답에_바로_반영된다")
+    @Test
+    void admin_curation_changes_are_reflected_in_main_curation() {
+        mainCurationRepository.save(new MainCuration());
+        Book book = bookRepository.save(Book.builder()
+            .title("소년이 온다")
+            .author("한강")
+            .coverUrl("/book/cover/url")
+            .build());
+
+        assertThat(getMainCuration()).doesNotContain("한강 작가의 도서를 만나봐요");
+
+        adminCurationService.createCuration(CreateCurationRequest.builder()
+            .name("한강 작가의 도서를 만나봐요")
+            .description("한강 작가의 도서 큐레이션입니다")
+            .curationType(CurationType.BOOK)
+            .bookIds(List.of(book.getBookId()))
+            .build());
+
+        assertThat(getMainCuration()).contains("한강 작가의 도서를 만나봐요", "소년이 온다");
+
+        Long itemId = curationItemRepository.findAll().getFirst().getCurationItemId();
+
+        adminCurationService.updateCurationItem(itemId, UpdateCurationRequest.builder()
+            .name("이번 주의 추천 도서")
+            .description("추천 도서 큐레이션입니다")
+            .curationType(CurationType.BOOK)
+            .bookIds(List.of(book.getBookId()))
+            .build());
+
+        assertThat(getMainCuration())
+            .contains("이번 주의 추천 도서")
+            .doesNotContain("한강 작가의 도서를 만나봐요");
+
+        adminCurationService.deleteCurationItem(itemId);
+
+        assertThat(getMainCuration()).doesNotContain("이번 주의 추천 도서");
+    }
+
+    private String getMainCuration() {
+        byte[] body = given()
+            .port(port)
+            .when()
+            .get("/api/v1/curations/main")
+            .then()
+            .statusCode(200)
+            .extract().body().asByteArray();
+
+        return new String(body, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,118 @@
+package com.lovedbug.geulgwi.integration;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.lovedbug.geulgwi.config.TestPostgresConfig;
+import com.lovedbug.geulgwi.config.TestRedisConfig;
+import com.lovedbug.geulgwi.core.domain.book.BookBulkRepository;
+import com.lovedbug.geulgwi.core.domain.book.BookIsbnFilter;
+import com.lovedbug.geulgwi.core.domain.book.BookRepository;
+import com.lovedbug.geulgwi.core.domain.book.BookService;
+import com.lovedbug.geulgwi.core.domain.book.entity.Book;
+import com.lovedbug.geulgwi.external.book_provider.aladdin.dto.AladdinBookResponse;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class BookIsbnDeduplicationTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookBulkRepository bookBulkRepository;
+
+    @Autowired
+    private BookIsbnFilter bookIsbnFilter;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @DynamicPropertySource
+    static void setProps(DynamicPropertyRegistry registry) {
+        TestPostgresConfig.overridePostgresProps(registry);
+        TestRedisConfig.overrideRedisProps(registry);
+    }
+
+    @BeforeEach
+    void clearDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE book RESTART IDENTITY CASCADE");
+        bookIsbnFilter.rebuild();
+    }
+
+    @DisplayName("같은_배치와_DB에_이미_있는_ISBN은_건너뛰고_새_도서만_반환한다")
+    @Test
+    void insert_ignoring_duplicates() {
+        bookBulkRepository.insertIgnoringDuplicates(List.of(book("isbn-1")));
+
+        List<Book> inserted = bookBulkRepository.insertIgnoringDuplicates(
+            List.of(book("isbn-1"), book("isbn-2"), book("isbn-2"), book("isbn-3")));
+
+        assertThat(inserted).extracting(Book::getIsbn).containsExactlyInAnyOrder("isbn-2", "isbn-3");
+        assertThat(inserted).allSatisfy(book -> assertThat(book.getBookId()).isNotNull());
+        assertThat(bookRepository.count()).isEqualTo(3);
+    }
+
+    @DisplayName("외부_도서를_저장할_때_배치_중복과_기존_ISBN을_제외한다")
+    @Test
+    void save_books_from_external_skips_duplicates() {
+        bookRepository.save(book("isbn-1"));
+
+        int saved = bookService.saveBooksFromExternal(List.of(
+            aladdinBook("isbn-1"),
+            aladdinBook("isbn-2"),
+            aladdinBook(" isbn-2 "),
+            aladdinBook(" "),
+            aladdinBook("isbn-3")));
+
+        assertThat(saved).isEqualTo(2);
+        assertThat(bookRepository.findAllIsbns()).containsExactlyInAnyOrder("isbn-1", "isbn-2", "isbn-3");
+        assertThat(bookService.saveBooksFromExternal(List.of(aladdinBook("isbn-2"), aladdinBook("isbn-3")))).isZero();
+    }
+
+    @DisplayName("ISBN_필터는_DB에_있는_ISBN만_기존_도서로_판단한다")
+    @Test
+    void isbn_filter_finds_known_isbns() {
+        bookRepository.save(book("isbn-1"));
+        bookIsbnFilter.rebuild();
+
+        assertThat(bookIsbnFilter.findKnown(List.of("isbn-1", "isbn-2"))).containsExactly("isbn-1");
+
+        bookIsbnFilter.register(List.of("isbn-2"));
+
+        assertThat(bookIsbnFilter.findKnown(List.of("isbn-2"))).isEmpty();
+    }
+
+    private Book book(String isbn) {
+        return Book.builder()
+            .title("도서 " + isbn)
+            .author("작가")
+            .isbn(isbn)
+            .build();
+    }
+
+    private AladdinBookResponse aladdinBook(String isbn) {
+        return AladdinBookResponse.builder()
+            .title("도서 " + isbn)
+            .author("작가")
+            .isbn(isbn)
+            .publishedDate("2024-01-01")
+            .build();
+    }
+}
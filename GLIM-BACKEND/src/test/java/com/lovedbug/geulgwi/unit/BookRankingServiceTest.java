@@ -0,0 +1,57 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.common.constant.RedisKey;
+import com.lovedbug.geulgwi.core.common.ranking.TimeWindow;
+import com.lovedbug.geulgwi.core.common.ranking.TrendingRankingStore;
+import com.lovedbug.geulgwi.core.domain.book.BookRankingService;
+import com.lovedbug.geulgwi.core.domain.book.BookRepository;
+import com.lovedbug.geulgwi.core.domain.book.dto.PopularBookResponse;
+import com.lovedbug.geulgwi.core.domain.book.entity.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookRankingServiceTest {
+
+    private static final String PREFIX = RedisKey.TRENDING_BOOKS.getKey();
+
+    @Mock
+    private TrendingRankingStore trendingRankingStore;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private BookRankingService bookRankingService;
+
+    @Test
+    @DisplayName("삭제된_도서를_제외해도_요청한_개수만큼_인기_도서를_반환한다")
+    void should_fill_limit_after_pruning_deleted_books() {
+        when(trendingRankingStore.top(PREFIX, TimeWindow.DAY, 4)).thenReturn(List.of("1", "2", "3", "4"));
+        when(bookRepository.findAllById(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(book(1L), book(3L), book(4L)));
+
+        List<PopularBookResponse> result = bookRankingService.getPopularBooks(null, TimeWindow.DAY, 2);
+
+        assertThat(result).extracting(PopularBookResponse::bookId).containsExactly(1L, 3L);
+        verify(trendingRankingStore).remove(PREFIX, List.of("2"));
+    }
+
+    private Book book(Long bookId) {
+        return Book.builder()
+            .bookId(bookId)
+            .title("책" + bookId)
+            .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.domain.book.BookChosungIndex;
+import com.lovedbug.geulgwi.core.domain.book.BookRepository;
+import com.lovedbug.geulgwi.core.domain.book.dto.BookChosungResponse;
+import com.lovedbug.geulgwi.core.domain.book.event.BookSavedEvent;
+import com.lovedbug.geulgwi.core.domain.quote.dto.response.QuoteChosungResponse;
+import com.lovedbug.geulgwi.core.domain.quote.event.QuoteSavedEvent;
+import com.lovedbug.geulgwi.core.domain.quote.repository.QuoteRepository;
+import com.lovedbug.geulgwi.core.domain.quote.search.QuoteChosungIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChosungIndexRebuildTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private QuoteRepository quoteRepository;
+
+    @Test
+    @DisplayName("색인을_재구성하는_동안_저장된_도서도_새_색인에_반영한다")
+    void should_keep_books_saved_during_rebuild() {
+        BookChosungIndex bookChosungIndex = new BookChosungIndex(bookRepository);
+        BookChosungResponse existing = new BookChosungResponse(1L, "채식주의자", "한강", "/cover/1");
+
+        when(bookRepository.findAllChosungResponses()).thenAnswer(invocation -> {
+            bookChosungIndex.onBookSaved(new BookSavedEvent(2L, "소년이 온다", "한강", "/cover/2"));
+            return List.of(existing);
+        });
+
+        bookChosungIndex.rebuild();
+
+        assertThat(bookChosungIndex.search("ㅊㅅ", 10)).containsExactly(existing);
+        assertThat(bookChosungIndex.search("ㅅㄴ", 10))
+            .containsExactly(new BookChosungResponse(2L, "소년이 온다", "한강", "/cover/2"));
+    }
+
+    @Test
+    @DisplayName("색인을_재구성하는_동안_비공개로_바뀐_글귀는_새_색인에서도_제외한다")
+    void should_apply_visibility_changes_made_during_rebuild() {
+        QuoteChosungIndex quoteChosungIndex = new QuoteChosungIndex(quoteRepository);
+        QuoteChosungResponse stale = new QuoteChosungResponse(1L, "새벽 노을", "책 제목");
+
+        when(quoteRepository.findPublicChosungResponses()).thenAnswer(invocation -> {
+            List<QuoteChosungResponse> snapshot = List.of(stale);
+            quoteChosungIndex.onQuoteSaved(new QuoteSavedEvent(1L, "새벽 노을", "책 제목", "PRIVATE"));
+            return snapshot;
+        });
+
+        quoteChosungIndex.rebuild();
+
+        assertThat(quoteChosungIndex.search("ㅅㅂ", 10)).isEmpty();
+    }
+}
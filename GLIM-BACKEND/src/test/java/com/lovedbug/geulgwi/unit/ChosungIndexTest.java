@@ -0,0 +1,48 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.common.search.ChosungIndex;
+import com.lovedbug.geulgwi.core.common.search.HangulJamo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChosungIndexTest {
+
+    @Test
+    @DisplayName("완성형 한글을 초성으로 분해하고 공백과 기호는 제거한다")
+    void should_decompose_hangul_into_chosung() {
+        assertThat(HangulJamo.toChosung("너무 좋은 글귀!")).isEqualTo("ㄴㅁㅈㅇㄱㄱ");
+        assertThat(HangulJamo.toChosung("ㄱㄴ Java 21")).isEqualTo("ㄱㄴjava21");
+    }
+
+    @Test
+    @DisplayName("초성이 연속으로 포함된 문서만 최신순으로 반환한다")
+    void should_return_documents_containing_chosung_newest_first() {
+        ChosungIndex<String> index = new ChosungIndex<>();
+        index.put(1L, "너무 좋은 글귀", "first");
+        index.put(2L, "글귀 모음집", "second");
+        index.put(3L, "고기 굽는 법", "third");
+
+        assertThat(index.search("ㄱㄱ", 10)).containsExactly("third", "second", "first");
+        assertThat(index.search("모음", 10)).containsExactly("second");
+        assertThat(index.search("ㄱㄱㅁ", 10)).containsExactly("second");
+        assertThat(index.search("ㄱ", 2)).containsExactly("third", "second");
+        assertThat(index.search("ㅎㅎ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제하거나 갱신한 문서는 이전 내용으로 검색되지 않는다")
+    void should_reflect_removed_and_updated_documents() {
+        ChosungIndex<String> index = new ChosungIndex<>();
+        index.put(1L, "너무 좋은 글귀", "old");
+        index.put(2L, "글귀 모음집", "second");
+        index.put(3L, "고기 굽는 법", "third");
+
+        index.put(1L, "새로운 문장", "new");
+        index.remove(2L);
+
+        assertThat(index.search("ㄱㄱ", 10)).containsExactly("third");
+        assertThat(index.search("ㅅㄹ", 10)).containsExactly("new");
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,80 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovedbug.geulgwi.core.domain.curation.CurationCacheInvalidator;
+import com.lovedbug.geulgwi.core.domain.curation.CurationCacheService;
+import com.lovedbug.geulgwi.core.domain.curation.CurationSnapshotService;
+import com.lovedbug.geulgwi.core.domain.curation.event.CurationChangedEvent;
+import com.lovedbug.geulgwi.core.domain.curation.event.CurationChangedMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import java.nio.charset.StandardCharsets;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CurationCacheInvalidatorTest {
+
+    private static final String CHANNEL = "curation:changed";
+
+    @Mock
+    private CurationCacheService curationCacheService;
+
+    @Mock
+    private CurationSnapshotService curationSnapshotService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CurationCacheInvalidator curationCacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        curationCacheInvalidator = new CurationCacheInvalidator(curationCacheService, curationSnapshotService,
+            stringRedisTemplate, objectMapper, listenerContainer);
+    }
+
+    @Test
+    @DisplayName("자신이_발행한_변경_메시지는_무시한다")
+    void should_ignore_self_published_message() {
+        curationCacheInvalidator.onCurationChanged(new CurationChangedEvent(1L));
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(anyString(), published.capture());
+
+        curationCacheInvalidator.onMessage(message(published.getValue()), null);
+
+        verify(curationCacheService, never()).evictLocal(1L);
+        verify(curationSnapshotService, times(1)).rebuild();
+    }
+
+    @Test
+    @DisplayName("다른_노드의_변경_메시지를_받으면_로컬_캐시를_비우고_스냅샷을_다시_만든다")
+    void should_evict_and_rebuild_on_remote_message() throws Exception {
+        String body = objectMapper.writeValueAsString(new CurationChangedMessage("other-node", 1L));
+
+        curationCacheInvalidator.onMessage(message(body), null);
+
+        verify(curationCacheService).evictLocal(1L);
+        verify(curationSnapshotService).rebuild();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
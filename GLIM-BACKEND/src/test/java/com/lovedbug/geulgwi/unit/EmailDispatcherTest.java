@@ -0,0 +1,201 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.lovedbug.geulgwi.external.email.EmailConfig;
+import com.lovedbug.geulgwi.external.email.EmailDispatchProperties;
+import com.lovedbug.geulgwi.external.email.EmailDispatcher;
+import com.lovedbug.geulgwi.external.email.OutgoingEmail;
+import com.lovedbug.geulgwi.external.email.constant.EmailErrorCode;
+import com.lovedbug.geulgwi.external.email.exception.EmailException;
+import com.lovedbug.geulgwi.external.resilience.ExternalCallGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.net.ServerSocket;
+import java.time.Duration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+        .withConfiguration(GreenMailConfiguration.aConfig().withUser("test", "test"));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExternalCallGuard externalCallGuard =
+        new ExternalCallGuard(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+
+    private EmailDispatcher emailDispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (emailDispatcher != null) {
+            emailDispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("큐에_쌓인_메일을_SMTP_서버로_발송한다")
+    void should_send_queued_emails() throws Exception {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        mailSender.setUsername("test");
+        mailSender.setPassword("test");
+        mailSender.getJavaMailProperties().put("mail.smtp.auth", "true");
+
+        emailDispatcher = new EmailDispatcher(mailSender, externalCallGuard, properties(100), meterRegistry);
+        emailDispatcher.start();
+
+        for (int i = 0; i < 3; i++) {
+            String to = "user" + i + "@example.com";
+            emailDispatcher.dispatch(OutgoingEmail.of(to, "test", createMessage(mailSender, to)));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 3)).isTrue();
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("발송에_실패하면_백오프_후_재시도한다")
+    void should_retry_failed_emails() throws Exception {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        doThrow(new MailSendException("connection refused"))
+            .doNothing()
+            .when(mailSender).send(any(MimeMessage[].class));
+
+        emailDispatcher = new EmailDispatcher(mailSender, externalCallGuard, properties(100), meterRegistry);
+        emailDispatcher.start();
+
+        emailDispatcher.dispatch(OutgoingEmail.of("retry@example.com", "test", new MimeMessage((Session) null)));
+
+        verify(mailSender, timeout(3_000).times(2)).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    @DisplayName("종료할_때_대기_중인_재시도는_버린_메일로_기록한다")
+    void should_record_pending_retries_as_dropped_on_stop() throws Exception {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        doThrow(new MailSendException("connection refused"))
+            .when(mailSender).send(any(MimeMessage[].class));
+
+        EmailDispatchProperties properties = properties(100);
+        properties.setInitialBackoff(Duration.ofMinutes(1));
+
+        emailDispatcher = new EmailDispatcher(mailSender, externalCallGuard, properties, meterRegistry);
+        emailDispatcher.start();
+
+        emailDispatcher.dispatch(OutgoingEmail.of("pending@example.com", "test", new MimeMessage((Session) null)));
+
+        awaitOutcome("retried", 1);
+
+        emailDispatcher.stop();
+        emailDispatcher = null;
+
+        assertThat(outcome("retried")).isEqualTo(1);
+        assertThat(outcome("dropped")).isEqualTo(1);
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    @DisplayName("응답하지_않는_SMTP_서버에_막혀도_시간_초과_후_워커가_다음_발송을_이어간다")
+    void should_recover_worker_from_stalled_smtp_server() throws Exception {
+        try (ServerSocket stalledServer = new ServerSocket(0)) {
+            EmailConfig emailConfig = new EmailConfig();
+            ReflectionTestUtils.setField(emailConfig, "host", "localhost");
+            ReflectionTestUtils.setField(emailConfig, "port", stalledServer.getLocalPort());
+            ReflectionTestUtils.setField(emailConfig, "username", "test");
+            ReflectionTestUtils.setField(emailConfig, "password", "test");
+            ReflectionTestUtils.setField(emailConfig, "connectionTimeoutMillis", 300);
+            ReflectionTestUtils.setField(emailConfig, "readTimeoutMillis", 300);
+            ReflectionTestUtils.setField(emailConfig, "writeTimeoutMillis", 300);
+            JavaMailSenderImpl mailSender = (JavaMailSenderImpl) emailConfig.mailSender();
+
+            EmailDispatchProperties properties = properties(100);
+            properties.setInitialBackoff(Duration.ofMillis(500));
+
+            emailDispatcher = new EmailDispatcher(mailSender, externalCallGuard, properties, meterRegistry);
+            emailDispatcher.start();
+
+            emailDispatcher.dispatch(OutgoingEmail.of("stalled@example.com", "test",
+                createMessage(mailSender, "stalled@example.com")));
+
+            awaitOutcome("retried", 1);
+
+            assertThat(outcome("retried")).isEqualTo(1);
+
+            mailSender.setPort(greenMail.getSmtp().getPort());
+
+            assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+            awaitOutcome("sent", 1);
+
+            assertThat(outcome("sent")).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("큐가_가득_차면_발송_요청을_거절한다")
+    void should_reject_when_queue_is_full() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        emailDispatcher = new EmailDispatcher(mailSender, externalCallGuard, properties(1), meterRegistry);
+
+        emailDispatcher.dispatch(OutgoingEmail.of("first@example.com", "test", new MimeMessage((Session) null)));
+
+        assertThatThrownBy(() -> emailDispatcher.dispatch(
+            OutgoingEmail.of("second@example.com", "test", new MimeMessage((Session) null))))
+            .isInstanceOf(EmailException.class)
+            .extracting("errorCode")
+            .isEqualTo(EmailErrorCode.EMAIL_QUEUE_FULL);
+    }
+
+    private void awaitOutcome(String outcome, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3_000;
+
+        while (outcome(outcome) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.counter("geulgwi.email.messages", "outcome", outcome).count();
+    }
+
+    private EmailDispatchProperties properties(int queueCapacity) {
+        EmailDispatchProperties properties = new EmailDispatchProperties();
+        properties.setQueueCapacity(queueCapacity);
+        properties.setWorkers(1);
+        properties.setInitialBackoff(Duration.ofMillis(10));
+        properties.setShutdownTimeout(Duration.ofSeconds(1));
+        return properties;
+    }
+
+    private MimeMessage createMessage(JavaMailSender mailSender, String to) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("noreply@example.com");
+        helper.setTo(to);
+        helper.setSubject("테스트");
+        helper.setText("<p>테스트</p>", true);
+        return message;
+    }
+}
@@ -1,7 +1,10 @@
 package com.lovedbug.geulgwi.unit;
 
+import com.google.api.core.ApiFutures;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
 import com.lovedbug.geulgwi.core.domain.book.entity.Book;
 import com.lovedbug.geulgwi.core.domain.member.Member;
 import com.lovedbug.geulgwi.core.domain.member.constant.MemberGender;
@@ -13,12 +16,16 @@ import com.lovedbug.geulgwi.external.fcm.dto.response.FcmMessageDto;
 import com.lovedbug.geulgwi.external.fcm.entity.FcmTokens;
 import com.lovedbug.geulgwi.external.fcm.repository.FcmTokenRepository;
 import com.lovedbug.geulgwi.external.fcm.service.FcmPushService;
+import com.lovedbug.geulgwi.external.resilience.ExternalCallGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 import java.time.LocalDateTime;
@@ -38,6 +45,10 @@ public class FcmPushServiceTest {
     @Mock
     private FcmTokenRepository fcmTokenRepository;
 
+    @Spy
+    private ExternalCallGuard externalCallGuard =
+        new ExternalCallGuard(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+
     @InjectMocks
     private FcmPushService fcmPushService;
 
@@ -75,8 +86,8 @@ public class FcmPushServiceTest {
 
         when(fcmTokenRepository.findAllByMemberAndIsActive(quoteOwner, true))
             .thenReturn(activeTokens);
-        when(firebaseMessaging.send(any(Message.class)))
-            .thenReturn("projects/test-project/messages/msg_123456789");
+        when(firebaseMessaging.sendAsync(any(Message.class)))
+            .thenReturn(ApiFutures.immediateFuture("projects/test-project/messages/msg_123456789"));
 
         fcmPushService.sendLikeNotification(quoteOwner, quote);
 
@@ -84,7 +95,7 @@ public class FcmPushServiceTest {
             .findAllByMemberAndIsActive(quoteOwner, true);
 
         ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
-        verify(firebaseMessaging, times(1)).send(messageCaptor.capture());
+        verify(firebaseMessaging, times(1)).sendAsync(messageCaptor.capture());
 
         Message sentMessage = messageCaptor.getValue();
 
@@ -108,12 +119,52 @@ public class FcmPushServiceTest {
 
         when(fcmTokenRepository.findAllByMemberAndIsActive(member, true))
             .thenReturn(activeTokens);
-        when(firebaseMessaging.send(any(Message.class)))
-            .thenReturn("projects/test-project/messages/msg_123456789");
+        when(firebaseMessaging.sendAsync(any(Message.class)))
+            .thenReturn(ApiFutures.immediateFuture("projects/test-project/messages/msg_123456789"));
 
         fcmPushService.sendLikeNotification(member, quote);
 
-        verify(firebaseMessaging, times(3)).send(any(Message.class));
+        verify(firebaseMessaging, times(3)).sendAsync(any(Message.class));
+    }
+
+    @DisplayName("만료된 토큰 오류면 토큰을 비활성화한다")
+    @Test
+    void should_deactivate_token_when_token_is_unregistered() {
+
+        Member member = createTestMember();
+        Quote quote = createTestQuote(createTestBook(), member.getMemberId());
+        FcmTokens token = createFcmToken(member, "stale_token", "ANDROID");
+
+        when(fcmTokenRepository.findAllByMemberAndIsActive(member, true)).thenReturn(List.of(token));
+        FirebaseMessagingException failure = messagingException(MessagingErrorCode.UNREGISTERED);
+        when(firebaseMessaging.sendAsync(any(Message.class))).thenReturn(ApiFutures.immediateFailedFuture(failure));
+
+        fcmPushService.sendLikeNotification(member, quote);
+
+        assertThat(token.getIsActive()).isFalse();
+    }
+
+    @DisplayName("FCM 서버 오류면 토큰을 유지한다")
+    @Test
+    void should_keep_token_when_fcm_is_unavailable() {
+
+        Member member = createTestMember();
+        Quote quote = createTestQuote(createTestBook(), member.getMemberId());
+        FcmTokens token = createFcmToken(member, "valid_token", "ANDROID");
+
+        when(fcmTokenRepository.findAllByMemberAndIsActive(member, true)).thenReturn(List.of(token));
+        FirebaseMessagingException failure = messagingException(MessagingErrorCode.UNAVAILABLE);
+        when(firebaseMessaging.sendAsync(any(Message.class))).thenReturn(ApiFutures.immediateFailedFuture(failure));
+
+        fcmPushService.sendLikeNotification(member, quote);
+
+        assertThat(token.getIsActive()).isTrue();
+    }
+
+    private FirebaseMessagingException messagingException(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        return exception;
     }
 
     private Member createTestMember() {
@@ -0,0 +1,137 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.domain.member.MemberStatusCache;
+import com.lovedbug.geulgwi.core.security.JwtAuthenticationFilter;
+import com.lovedbug.geulgwi.core.security.JwtUtil;
+import com.lovedbug.geulgwi.core.security.TokenRevocationService;
+import com.lovedbug.geulgwi.core.security.dto.AuthenticatedUser;
+import com.lovedbug.geulgwi.external.email.AuthenticatedUserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final Long MEMBER_ID = 7L;
+    private static final String EMAIL = "filter@example.com";
+
+    @Mock
+    private AuthenticatedUserService authenticatedUserService;
+
+    @Mock
+    private MemberStatusCache memberStatusCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "testtesttesttesttesttesttesttesttest");
+        jwtUtil.init();
+
+        filter = new JwtAuthenticationFilter(jwtUtil, authenticatedUserService, memberStatusCache, tokenRevocationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("토큰_클레임만으로_인증하고_회원을_DB에서_조회하지_않는다")
+    void should_authenticate_from_claims() throws Exception {
+        when(memberStatusCache.isActive(MEMBER_ID)).thenReturn(true);
+
+        MockHttpServletRequest request = requestWith(jwtUtil.generateAccessToken(EMAIL, MEMBER_ID), "/api/v1/quotes");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        AuthenticatedUser user = (AuthenticatedUser) request.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_KEY);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(user.getMemberId()).isEqualTo(MEMBER_ID);
+        assertThat(user.getEmail()).isEqualTo(EMAIL);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        verifyNoInteractions(authenticatedUserService);
+    }
+
+    @Test
+    @DisplayName("활성_상태가_아닌_회원의_토큰은_401로_거절한다")
+    void should_reject_inactive_member() throws Exception {
+        when(memberStatusCache.isActive(MEMBER_ID)).thenReturn(false);
+
+        MockHttpServletRequest request = requestWith(jwtUtil.generateAccessToken(EMAIL, MEMBER_ID), "/api/v1/quotes");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("폐기된_토큰은_회원_상태를_확인하기_전에_거절한다")
+    void should_reject_revoked_token() throws Exception {
+        when(tokenRevocationService.isRevoked(any())).thenReturn(true);
+
+        MockHttpServletRequest request = requestWith(jwtUtil.generateAccessToken(EMAIL, MEMBER_ID), "/api/v1/quotes");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        verify(memberStatusCache, never()).isActive(any());
+    }
+
+    @Test
+    @DisplayName("리프레시_토큰을_액세스_토큰으로_사용하면_거절한다")
+    void should_reject_refresh_token_as_access_token() throws Exception {
+        MockHttpServletRequest request = requestWith(jwtUtil.generateRefreshToken(EMAIL, MEMBER_ID), "/api/v1/quotes");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        verifyNoInteractions(memberStatusCache);
+    }
+
+    @Test
+    @DisplayName("토큰_갱신_요청은_필터에서_검증하지_않고_통과시킨다")
+    void should_pass_refresh_requests_through() throws Exception {
+        MockHttpServletRequest request = requestWith(jwtUtil.generateRefreshToken(EMAIL, MEMBER_ID), "/api/v1/auth/refresh");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verifyNoInteractions(memberStatusCache, tokenRevocationService);
+    }
+
+    private MockHttpServletRequest requestWith(String token, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.addHeader(JwtUtil.HEADER_AUTH, JwtUtil.TOKEN_PREFIX + token);
+        return request;
+    }
+}
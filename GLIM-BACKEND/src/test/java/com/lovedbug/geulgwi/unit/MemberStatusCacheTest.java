@@ -0,0 +1,96 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.domain.member.MemberRepository;
+import com.lovedbug.geulgwi.core.domain.member.MemberStatusCache;
+import com.lovedbug.geulgwi.core.domain.member.constant.MemberStatus;
+import com.lovedbug.geulgwi.core.domain.member.event.MemberStatusChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberStatusCacheTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private MemberStatusCache memberStatusCache;
+
+    @BeforeEach
+    void setUp() {
+        memberStatusCache = new MemberStatusCache(memberRepository, stringRedisTemplate, listenerContainer, 60);
+    }
+
+    @Test
+    @DisplayName("캐시에_있는_회원_상태는_DB를_다시_조회하지_않는다")
+    void should_serve_cached_status() {
+        when(memberRepository.findStatusByMemberId(MEMBER_ID)).thenReturn(Optional.of(MemberStatus.ACTIVE));
+
+        assertThat(memberStatusCache.isActive(MEMBER_ID)).isTrue();
+        assertThat(memberStatusCache.isActive(MEMBER_ID)).isTrue();
+
+        verify(memberRepository, times(1)).findStatusByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("상태_변경_이벤트를_받으면_캐시를_비우고_다른_노드에_알린다")
+    void should_evict_and_publish_on_status_change() {
+        when(memberRepository.findStatusByMemberId(MEMBER_ID))
+            .thenReturn(Optional.of(MemberStatus.ACTIVE))
+            .thenReturn(Optional.of(MemberStatus.INACTIVE));
+
+        assertThat(memberStatusCache.isActive(MEMBER_ID)).isTrue();
+
+        memberStatusCache.onMemberStatusChanged(new MemberStatusChangedEvent(MEMBER_ID, MemberStatus.INACTIVE));
+
+        assertThat(memberStatusCache.isActive(MEMBER_ID)).isFalse();
+        verify(stringRedisTemplate).convertAndSend("member:status:changed", String.valueOf(MEMBER_ID));
+    }
+
+    @Test
+    @DisplayName("다른_노드의_무효화_메시지를_받으면_캐시를_비운다")
+    void should_evict_on_remote_message() {
+        when(memberRepository.findStatusByMemberId(MEMBER_ID))
+            .thenReturn(Optional.of(MemberStatus.ACTIVE))
+            .thenReturn(Optional.of(MemberStatus.SUSPENDED));
+
+        assertThat(memberStatusCache.getStatus(MEMBER_ID)).isEqualTo(MemberStatus.ACTIVE);
+
+        memberStatusCache.onMessage(new DefaultMessage(
+            "member:status:changed".getBytes(StandardCharsets.UTF_8),
+            String.valueOf(MEMBER_ID).getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(memberStatusCache.getStatus(MEMBER_ID)).isEqualTo(MemberStatus.SUSPENDED);
+    }
+
+    @Test
+    @DisplayName("존재하지_않는_회원은_비활성으로_보고_캐시하지_않는다")
+    void should_treat_missing_member_as_inactive() {
+        when(memberRepository.findStatusByMemberId(MEMBER_ID)).thenReturn(Optional.empty());
+
+        assertThat(memberStatusCache.isActive(MEMBER_ID)).isFalse();
+        assertThat(memberStatusCache.isActive(MEMBER_ID)).isFalse();
+
+        verify(memberRepository, times(2)).findStatusByMemberId(MEMBER_ID);
+    }
+}
@@ -0,0 +1,35 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.common.search.PrefixTrie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie prefixTrie = PrefixTrie.build(Map.of(
+        "채식주의자", 30.0,
+        "책 읽는 법", 20.0,
+        "채털리 부인의 연인", 10.0,
+        "소년이 온다", 50.0,
+        "Java 21", 5.0
+    ), 10);
+
+    @Test
+    @DisplayName("접두사로 시작하는 검색어를 가중치 순으로 반환한다")
+    void should_complete_prefix_by_weight() {
+        assertThat(prefixTrie.complete("채", 10)).containsExactly("채식주의자", "책 읽는 법", "채털리 부인의 연인");
+        assertThat(prefixTrie.complete("채식", 10)).containsExactly("채식주의자");
+        assertThat(prefixTrie.complete("java", 10)).containsExactly("Java 21");
+        assertThat(prefixTrie.complete("없는", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조합 중인 마지막 글자의 초성이나 받침 없는 음절로도 완성한다")
+    void should_complete_composing_last_syllable() {
+        assertThat(prefixTrie.complete("ㅅ", 10)).containsExactly("소년이 온다");
+        assertThat(prefixTrie.complete("책 ㅇ", 10)).containsExactly("책 읽는 법");
+        assertThat(prefixTrie.complete("채", 1)).containsExactly("채식주의자");
+    }
+}
@@ -0,0 +1,113 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.common.ratelimit.RateLimitDecision;
+import com.lovedbug.geulgwi.core.common.ratelimit.RateLimitProperties;
+import com.lovedbug.geulgwi.core.common.ratelimit.RateLimiter;
+import com.lovedbug.geulgwi.core.common.ratelimit.RedisTokenBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private RedisTokenBucket redisTokenBucket;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+    private RateLimitProperties.Rule rule;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(redisTokenBucket, new RateLimitProperties(), meterRegistry);
+
+        rule = new RateLimitProperties.Rule();
+        rule.setName("test");
+        rule.setCapacity(10);
+        rule.setRefillPeriod(Duration.ofMinutes(1));
+        rule.setLease(3);
+    }
+
+    @Test
+    @DisplayName("임대받은_토큰을_소진할_때까지_Redis를_다시_호출하지_않는다")
+    void should_serve_leased_tokens_locally() {
+        when(redisTokenBucket.lease(anyString(), any())).thenReturn(new RedisTokenBucket.Lease(3, 0));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(rule, "ip:127.0.0.1").allowed()).isTrue();
+        }
+
+        verify(redisTokenBucket, times(1)).lease(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("토큰이_없으면_재시도_시간과_함께_거절하고_대기_중에는_Redis를_호출하지_않는다")
+    void should_reject_with_retry_after_when_bucket_is_empty() {
+        when(redisTokenBucket.lease(anyString(), any())).thenReturn(new RedisTokenBucket.Lease(0, 5_000));
+
+        RateLimitDecision first = rateLimiter.tryAcquire(rule, "member:1");
+        RateLimitDecision second = rateLimiter.tryAcquire(rule, "member:1");
+
+        assertThat(first.allowed()).isFalse();
+        assertThat(first.retryAfterMillis()).isEqualTo(5_000);
+        assertThat(second.allowed()).isFalse();
+        assertThat(second.retryAfterMillis()).isPositive();
+        verify(redisTokenBucket, times(1)).lease(anyString(), any());
+        assertThat(meterRegistry.counter("geulgwi.ratelimit.requests", "rule", "test", "outcome", "rejected").count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis_장애_시에는_요청을_허용한다")
+    void should_allow_when_redis_is_unavailable() {
+        when(redisTokenBucket.lease(anyString(), any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(rateLimiter.tryAcquire(rule, "ip:127.0.0.1").allowed()).isTrue();
+        assertThat(meterRegistry.counter("geulgwi.ratelimit.requests", "rule", "test", "outcome", "degraded").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰_버킷_응답이_올바르지_않으면_요청을_허용한다")
+    void should_allow_when_lease_reply_is_malformed() {
+        when(redisTokenBucket.lease(anyString(), any())).thenThrow(new IllegalStateException("malformed"));
+
+        assertThat(rateLimiter.tryAcquire(rule, "ip:127.0.0.1").allowed()).isTrue();
+        assertThat(meterRegistry.counter("geulgwi.ratelimit.requests", "rule", "test", "outcome", "degraded").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis_호출_중에는_같은_버킷의_잠금을_잡고_있지_않는다")
+    void should_not_hold_lock_during_redis_call() {
+        AtomicInteger calls = new AtomicInteger();
+
+        when(redisTokenBucket.lease(anyString(), any())).thenAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                CompletableFuture.supplyAsync(() -> rateLimiter.tryAcquire(rule, "ip:127.0.0.1"))
+                    .get(1, TimeUnit.SECONDS);
+            }
+            return new RedisTokenBucket.Lease(1, 0);
+        });
+
+        assertThat(rateLimiter.tryAcquire(rule, "ip:127.0.0.1").allowed()).isTrue();
+        verify(redisTokenBucket, times(2)).lease(anyString(), any());
+    }
+}
@@ -0,0 +1,78 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.common.concurrent.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightTest {
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키의 호출은 한 번만 실행하고 결과를 공유한다")
+    void should_coalesce_concurrent_calls_with_same_key() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("채식주의자", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "result";
+        })));
+        started.await(5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("채식주의자", () -> {
+                calls.incrementAndGet();
+                return "duplicated";
+            })));
+        }
+
+        while (meterRegistry.get("geulgwi.singleflight.calls").tag("result", "coalesced").counter().count() < 7) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("실패한 호출의 예외를 대기자에게 전달하고 다음 호출은 새로 실행한다")
+    void should_propagate_failure_and_allow_retry() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("key", () -> "retried")).isEqualTo("retried");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.common.ranking.SpaceSavingCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpaceSavingCounterTest {
+
+    @Test
+    @DisplayName("용량을 넘는 긴 꼬리 검색어 속에서도 자주 등장한 검색어를 상위로 남긴다")
+    void should_keep_heavy_hitters_within_capacity() {
+        SpaceSavingCounter counter = new SpaceSavingCounter(10);
+
+        for (int i = 0; i < 1_000; i++) {
+            counter.add("소년이 온다", 1);
+            if (i % 2 == 0) {
+                counter.add("채식주의자", 1);
+            }
+            counter.add("긴꼬리-" + i, 1);
+        }
+
+        Map<String, Long> top = counter.drainTop(2);
+
+        assertThat(top).containsOnlyKeys("소년이 온다", "채식주의자");
+        assertThat(top.get("소년이 온다")).isGreaterThan(top.get("채식주의자"));
+        assertThat(counter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("용량 안에서는 정확한 횟수를 반환한다")
+    void should_count_exactly_within_capacity() {
+        SpaceSavingCounter counter = new SpaceSavingCounter(10);
+
+        counter.add("a", 1);
+        counter.add("b", 3);
+        counter.add("a", 1);
+
+        assertThat(counter.drainTop(10)).containsExactly(Map.entry("b", 3L), Map.entry("a", 2L));
+    }
+
+    @Test
+    @DisplayName("보장 횟수가 0 이하인 항목은 상위 목록에서 제외한다")
+    void should_skip_non_positive_estimates() {
+        SpaceSavingCounter counter = new SpaceSavingCounter(10);
+
+        counter.add("a", 2);
+        counter.add("a", -2);
+        counter.add("b", 1);
+
+        assertThat(counter.drainTop(10)).containsExactly(Map.entry("b", 1L));
+    }
+}
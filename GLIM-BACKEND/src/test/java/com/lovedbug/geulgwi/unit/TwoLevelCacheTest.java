@@ -0,0 +1,90 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lovedbug.geulgwi.external.redis.cache.CacheInvalidationMessage;
+import com.lovedbug.geulgwi.external.redis.cache.TwoLevelCache;
+import com.lovedbug.geulgwi.external.redis.cache.TwoLevelCacheManager;
+import com.lovedbug.geulgwi.external.redis.cache.TwoLevelCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "bookCurations";
+
+    private final RedisCache remote = mock(RedisCache.class);
+    private final Cache<String, Object> local = Caffeine.newBuilder().build();
+    private final List<CacheInvalidationMessage> published = new ArrayList<>();
+    private final TwoLevelCache cache =
+        new TwoLevelCache(CACHE_NAME, local, remote, published::add, "node-a", new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("로컬_캐시에_없으면_Redis_값을_읽어_로컬에_채운다")
+    void should_fill_local_from_redis_on_local_miss() {
+        when(remote.get("1")).thenReturn(new SimpleValueWrapper("curation"));
+
+        assertThat(cache.get("1", String.class)).isEqualTo("curation");
+        assertThat(cache.get("1", String.class)).isEqualTo("curation");
+
+        verify(remote, times(1)).get("1");
+        assertThat(local.getIfPresent("1")).isEqualTo("curation");
+    }
+
+    @Test
+    @DisplayName("삭제하면_두_계층을_모두_비우고_무효화_메시지를_발행한다")
+    void should_evict_both_levels_and_publish() {
+        local.put("1", "curation");
+
+        cache.evict("1");
+
+        verify(remote).evict("1");
+        assertThat(local.getIfPresent("1")).isNull();
+        assertThat(published).containsExactly(new CacheInvalidationMessage("node-a", CACHE_NAME, "1"));
+    }
+
+    @Test
+    @DisplayName("자신이_발행한_무효화_메시지는_무시하고_다른_노드의_메시지만_반영한다")
+    void should_ignore_self_originated_invalidations() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(mock(RedisConnectionFactory.class),
+            RedisCacheConfiguration.defaultCacheConfig(), new TwoLevelCacheProperties(), mock(StringRedisTemplate.class),
+            objectMapper, new SimpleMeterRegistry(), mock(RedisMessageListenerContainer.class));
+
+        @SuppressWarnings("unchecked")
+        Cache<String, Object> managedLocal = (Cache<String, Object>) cacheManager.getCache(CACHE_NAME).getNativeCache();
+        managedLocal.put("1", "curation");
+
+        String origin = (String) ReflectionTestUtils.getField(cacheManager, "origin");
+        cacheManager.onMessage(message(objectMapper, new CacheInvalidationMessage(origin, CACHE_NAME, "1")), null);
+
+        assertThat(managedLocal.getIfPresent("1")).isEqualTo("curation");
+
+        cacheManager.onMessage(message(objectMapper, new CacheInvalidationMessage("node-b", CACHE_NAME, "1")), null);
+
+        assertThat(managedLocal.getIfPresent("1")).isNull();
+    }
+
+    private DefaultMessage message(ObjectMapper objectMapper, CacheInvalidationMessage invalidation) throws Exception {
+        return new DefaultMessage("cache:invalidation".getBytes(StandardCharsets.UTF_8),
+            objectMapper.writeValueAsBytes(invalidation));
+    }
+}
@@ -0,0 +1,77 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.common.view.ViewCountBuffer;
+import com.lovedbug.geulgwi.core.common.view.ViewTarget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewCountBufferTest {
+
+    @Test
+    @DisplayName("동시에 들어온 조회수 증가분을 잃지 않고 모아서 반환한다")
+    void should_drain_all_concurrent_increments() throws InterruptedException {
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 1_000; i++) {
+            long quoteId = i % 3;
+            executor.submit(() -> viewCountBuffer.increase(ViewTarget.QUOTE, quoteId));
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        Map<Long, Long> deltas = viewCountBuffer.drain(ViewTarget.QUOTE);
+
+        assertThat(deltas.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(1_000L);
+        assertThat(deltas).containsEntry(0L, 334L);
+        assertThat(viewCountBuffer.drain(ViewTarget.QUOTE)).isEmpty();
+        assertThat(viewCountBuffer.drain(ViewTarget.BOOK)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("증가와 비우기가 동시에 일어나도 조회수를 잃지 않는다")
+    void should_not_lose_increments_while_draining() throws InterruptedException {
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(40_000);
+        long drained = 0;
+
+        for (int i = 0; i < 40_000; i++) {
+            executor.submit(() -> {
+                viewCountBuffer.increase(ViewTarget.QUOTE, 1L);
+                done.countDown();
+            });
+        }
+
+        while (done.getCount() > 0) {
+            drained += viewCountBuffer.drain(ViewTarget.QUOTE).getOrDefault(1L, 0L);
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        drained += viewCountBuffer.drain(ViewTarget.QUOTE).getOrDefault(1L, 0L);
+
+        assertThat(drained).isEqualTo(40_000L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분을 버퍼에 되돌린다")
+    void should_restore_failed_deltas() {
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+
+        viewCountBuffer.increase(ViewTarget.BOOK, 1L);
+        Map<Long, Long> deltas = viewCountBuffer.drain(ViewTarget.BOOK);
+
+        viewCountBuffer.increase(ViewTarget.BOOK, 1L);
+        viewCountBuffer.restore(ViewTarget.BOOK, deltas);
+
+        assertThat(viewCountBuffer.drain(ViewTarget.BOOK)).containsEntry(1L, 2L);
+    }
+}
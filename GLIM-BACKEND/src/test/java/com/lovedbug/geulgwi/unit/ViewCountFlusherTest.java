@@ -0,0 +1,50 @@
+package com.lovedbug.geulgwi.unit;
+
+import com.lovedbug.geulgwi.core.common.view.ViewCountBuffer;
+import com.lovedbug.geulgwi.core.common.view.ViewCountFlushedEvent;
+import com.lovedbug.geulgwi.core.common.view.ViewCountFlusher;
+import com.lovedbug.geulgwi.core.common.view.ViewTarget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountFlusherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("한_대상의_후속_처리가_실패해도_다른_대상의_조회수는_DB에_반영한다")
+    void should_flush_every_target_even_if_a_listener_fails() {
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+        ViewCountFlusher viewCountFlusher =
+            new ViewCountFlusher(viewCountBuffer, jdbcTemplate, eventPublisher, new SimpleMeterRegistry());
+
+        viewCountBuffer.increase(ViewTarget.QUOTE, 1L);
+        viewCountBuffer.increase(ViewTarget.BOOK, 2L);
+        doThrow(new QueryTimeoutException("redis down")).when(eventPublisher).publishEvent(any(ViewCountFlushedEvent.class));
+
+        viewCountFlusher.flush();
+
+        verify(jdbcTemplate).batchUpdate(eq(ViewTarget.QUOTE.getIncrementSql()), anyList());
+        verify(jdbcTemplate).batchUpdate(eq(ViewTarget.BOOK.getIncrementSql()), anyList());
+        assertThat(viewCountBuffer.size(ViewTarget.QUOTE)).isZero();
+        assertThat(viewCountBuffer.size(ViewTarget.BOOK)).isZero();
+    }
+}